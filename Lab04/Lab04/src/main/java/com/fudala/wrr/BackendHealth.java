@@ -0,0 +1,132 @@
+package com.fudala.wrr;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class BackendHealth {
+
+    // floor so a backend entering slow start still sees enough requests to reveal whether it has really recovered
+    private static final double MIN_ADMISSION_FRACTION = 0.1;
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    private final AtomicInteger inFlightCount;
+    private final AtomicInteger consecutiveRequestFailures;
+    private final AtomicBoolean probeInFlight;
+    private int consecutiveProbeFailures;
+    private int consecutiveProbeSuccesses;
+    private volatile int ejectionCount;
+    private volatile boolean healthy;
+    private volatile boolean ejected;
+    private volatile long ejectedUntilNanos;
+    private volatile boolean slowStarting;
+    private volatile long slowStartBeginNanos;
+
+    BackendHealth() {
+        this.inFlightCount = new AtomicInteger();
+        this.consecutiveRequestFailures = new AtomicInteger();
+        this.probeInFlight = new AtomicBoolean();
+        this.healthy = true;
+    }
+
+    boolean isAvailable(long nowNanos) {
+        if (!healthy) {
+            return false;
+        }
+        if (ejected) {
+            if (nowNanos - ejectedUntilNanos < 0) {
+                return false;
+            }
+            endEjection(nowNanos);
+        }
+        return true;
+    }
+
+    double getAdmissionFraction(long nowNanos, long slowStartNanos) {
+        if (!slowStarting) {
+            return 1.0;
+        }
+        // read-only: clearing the flag here could undo a slow start that another thread has just begun
+        long elapsed = nowNanos - slowStartBeginNanos;
+        if (elapsed >= slowStartNanos) {
+            return 1.0;
+        }
+        return Math.max(MIN_ADMISSION_FRACTION, (double) elapsed / slowStartNanos);
+    }
+
+    int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    void requestStarted() {
+        inFlightCount.incrementAndGet();
+    }
+
+    void requestCompleted() {
+        inFlightCount.decrementAndGet();
+    }
+
+    void recordResponse(boolean succeeded, long nowNanos, int failuresToEject, long ejectionNanos) {
+        if (succeeded) {
+            if (consecutiveRequestFailures.get() != 0) {
+                consecutiveRequestFailures.set(0);
+            }
+            if (ejectionCount != 0) {
+                resetEjectionCount();
+            }
+            return;
+        }
+        if (consecutiveRequestFailures.incrementAndGet() >= failuresToEject) {
+            consecutiveRequestFailures.set(0);
+            eject(nowNanos, ejectionNanos);
+        }
+    }
+
+    boolean tryBeginProbe() {
+        return probeInFlight.compareAndSet(false, true);
+    }
+
+    synchronized void recordProbe(boolean succeeded, long nowNanos, int unhealthyThreshold, int healthyThreshold) {
+        probeInFlight.set(false);
+        if (succeeded) {
+            consecutiveProbeFailures = 0;
+            consecutiveProbeSuccesses++;
+            if (!healthy && consecutiveProbeSuccesses >= healthyThreshold) {
+                healthy = true;
+                // an ejected backend starts its ramp when the ejection ends, not while it still takes no traffic
+                if (!ejected) {
+                    beginSlowStart(nowNanos);
+                }
+            }
+        } else {
+            consecutiveProbeSuccesses = 0;
+            consecutiveProbeFailures++;
+            if (healthy && consecutiveProbeFailures >= unhealthyThreshold) {
+                healthy = false;
+                slowStarting = false;
+            }
+        }
+    }
+
+    private synchronized void eject(long nowNanos, long ejectionNanos) {
+        ejectionCount = Math.min(ejectionCount + 1, MAX_EJECTION_MULTIPLIER);
+        ejectedUntilNanos = nowNanos + ejectionNanos * ejectionCount;
+        ejected = true;
+        slowStarting = false;
+    }
+
+    private synchronized void endEjection(long nowNanos) {
+        if (ejected && nowNanos - ejectedUntilNanos >= 0) {
+            ejected = false;
+            beginSlowStart(ejectedUntilNanos);
+        }
+    }
+
+    private synchronized void resetEjectionCount() {
+        ejectionCount = 0;
+    }
+
+    private void beginSlowStart(long nowNanos) {
+        slowStartBeginNanos = nowNanos;
+        slowStarting = true;
+    }
+}
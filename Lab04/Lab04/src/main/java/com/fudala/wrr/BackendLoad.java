@@ -0,0 +1,45 @@
+package com.fudala.wrr;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class BackendLoad {
+
+    private final AtomicInteger inFlightCount;
+    private volatile double latencyEstimateNanos;
+    private volatile long lastObservedNanos;
+
+    BackendLoad() {
+        this.inFlightCount = new AtomicInteger();
+    }
+
+    int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    void requestStarted() {
+        inFlightCount.incrementAndGet();
+    }
+
+    void requestCompleted() {
+        inFlightCount.decrementAndGet();
+    }
+
+    synchronized void observeLatency(long latencyNanos, long nowNanos, double decayNanos) {
+        double previous = latencyEstimateNanos;
+        if (latencyNanos > previous) {
+            latencyEstimateNanos = latencyNanos;
+        } else {
+            double retained = Math.exp(-Math.max(0L, nowNanos - lastObservedNanos) / decayNanos);
+            latencyEstimateNanos = previous * retained + latencyNanos * (1.0 - retained);
+        }
+        lastObservedNanos = nowNanos;
+    }
+
+    double getLatencyEstimateNanos(long nowNanos, double decayNanos) {
+        double estimate = latencyEstimateNanos;
+        if (estimate == 0.0) {
+            return 0.0;
+        }
+        return estimate * Math.exp(-Math.max(0L, nowNanos - lastObservedNanos) / decayNanos);
+    }
+}
@@ -1,8 +1,13 @@
 package com.fudala.wrr;
 
+import java.net.URI;
+import java.util.Optional;
+
 public interface BackendServer {
     String getId();
 
+    Optional<URI> getAddress();
+
     int getWeight();
 
     void setWeight(int weight);
@@ -10,4 +15,4 @@ public interface BackendServer {
     long getServedCount();
 
     void incrementServedCount();
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.fudala.wrr;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ConcurrencyLimitingHandler implements HttpHandler {
+
+    private static final byte[] REJECTION_BODY =
+            "{\"error\":\"Too many concurrent requests\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpHandler delegate;
+    private final int maxConcurrentRequests;
+    private final Semaphore permits;
+    private final AtomicLong rejectedCount;
+
+    public ConcurrencyLimitingHandler(HttpHandler delegate, int maxConcurrentRequests) {
+        this.delegate = Objects.requireNonNull(delegate);
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be positive");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.rejectedCount = new AtomicLong();
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        if (!permits.tryAcquire()) {
+            rejectedCount.incrementAndGet();
+            reject(exchange);
+            return;
+        }
+        try {
+            delegate.handle(exchange);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getInFlightCount() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private static void reject(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            if ("HEAD".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(503, REJECTION_BODY.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(REJECTION_BODY);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.fudala.wrr;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public enum ExecutorMode {
+    FIXED_THREAD_POOL,
+    VIRTUAL_THREADS;
+
+    ExecutorService createExecutor() {
+        return switch (this) {
+            case FIXED_THREAD_POOL -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+            case VIRTUAL_THREADS -> Executors.newVirtualThreadPerTaskExecutor();
+        };
+    }
+}
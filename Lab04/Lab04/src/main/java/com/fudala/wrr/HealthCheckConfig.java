@@ -0,0 +1,49 @@
+package com.fudala.wrr;
+
+import java.time.Duration;
+
+public record HealthCheckConfig(
+        String probePath,
+        Duration probeInterval,
+        Duration probeTimeout,
+        int unhealthyThreshold,
+        int healthyThreshold,
+        int consecutiveFailuresToEject,
+        Duration ejectionDuration,
+        Duration slowStartDuration
+) {
+
+    public HealthCheckConfig {
+        if (probePath == null || !probePath.startsWith("/")) {
+            throw new IllegalArgumentException("Probe path must start with '/'");
+        }
+        requirePositive(probeInterval, "Probe interval");
+        requirePositive(probeTimeout, "Probe timeout");
+        requirePositive(ejectionDuration, "Ejection duration");
+        if (slowStartDuration == null || slowStartDuration.isNegative()) {
+            throw new IllegalArgumentException("Slow start duration must not be negative");
+        }
+        if (unhealthyThreshold <= 0 || healthyThreshold <= 0 || consecutiveFailuresToEject <= 0) {
+            throw new IllegalArgumentException("Thresholds must be positive");
+        }
+    }
+
+    public static HealthCheckConfig defaults() {
+        return new HealthCheckConfig(
+                "/health",
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(2),
+                3,
+                2,
+                5,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(30)
+        );
+    }
+
+    private static void requirePositive(Duration duration, String name) {
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+    }
+}
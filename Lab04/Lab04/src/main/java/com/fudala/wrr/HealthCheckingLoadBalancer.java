@@ -0,0 +1,205 @@
+package com.fudala.wrr;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public final class HealthCheckingLoadBalancer implements LoadBalancer {
+
+    private static final int MAX_SELECTION_ATTEMPTS = 4;
+
+    private final LoadBalancer delegate;
+    private final LoadAwareLoadBalancer loadAwareDelegate;
+    private final HttpClient httpClient;
+    private final HealthCheckConfig config;
+    private final List<BackendServer> backends;
+    private final BackendHealth[] health;
+    private final Map<BackendServer, BackendHealth> healthByBackend;
+    private final long ejectionNanos;
+    private final long slowStartNanos;
+    private ScheduledExecutorService scheduler;
+
+    public HealthCheckingLoadBalancer(LoadBalancer delegate, HttpClient httpClient, HealthCheckConfig config) {
+        this.delegate = Objects.requireNonNull(delegate);
+        // a load-aware delegate already counts in-flight requests; reuse its counter instead of keeping a second one
+        this.loadAwareDelegate = delegate instanceof LoadAwareLoadBalancer loadAware ? loadAware : null;
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.config = Objects.requireNonNull(config);
+        this.backends = List.copyOf(delegate.getBackends());
+        this.health = new BackendHealth[backends.size()];
+        this.healthByBackend = new IdentityHashMap<>();
+        for (int i = 0; i < health.length; i++) {
+            health[i] = healthByBackend.computeIfAbsent(backends.get(i), _ -> new BackendHealth());
+        }
+        this.ejectionNanos = config.ejectionDuration().toNanos();
+        this.slowStartNanos = config.slowStartDuration().toNanos();
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("health-check").daemon().factory()
+        );
+        scheduler.scheduleWithFixedDelay(
+                this::probeBackends,
+                0,
+                config.probeInterval().toNanos(),
+                TimeUnit.NANOSECONDS
+        );
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public BackendServer chooseServer() {
+        long now = System.nanoTime();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < MAX_SELECTION_ATTEMPTS; attempt++) {
+            BackendServer candidate = delegate.chooseServer();
+            BackendHealth candidateHealth = healthByBackend.get(candidate);
+            if (candidateHealth == null) {
+                return candidate;
+            }
+            if (candidateHealth.isAvailable(now)) {
+                // slow start works on any delegate: instead of rewriting its weights, a recovering backend is admitted
+                // with a probability ramping from 0.1 to 1 and a refused pick is retried or falls back below
+                double admission = candidateHealth.getAdmissionFraction(now, slowStartNanos);
+                if (admission >= 1.0 || random.nextDouble() < admission) {
+                    return candidate;
+                }
+            }
+        }
+        return chooseLeastLoadedAvailable(now, random);
+    }
+
+    @Override
+    public void updateWeight(String backendId, int newWeight) {
+        delegate.updateWeight(backendId, newWeight);
+    }
+
+    @Override
+    public List<BackendServer> getBackends() {
+        return backends;
+    }
+
+    @Override
+    public void requestStarted(BackendServer backend) {
+        BackendHealth backendHealth = healthByBackend.get(backend);
+        if (backendHealth != null && loadAwareDelegate == null) {
+            backendHealth.requestStarted();
+        }
+        delegate.requestStarted(backend);
+    }
+
+    @Override
+    public void responseReceived(BackendServer backend, long latencyNanos, boolean succeeded) {
+        BackendHealth backendHealth = healthByBackend.get(backend);
+        if (backendHealth != null) {
+            backendHealth.recordResponse(
+                    succeeded,
+                    System.nanoTime(),
+                    config.consecutiveFailuresToEject(),
+                    ejectionNanos
+            );
+        }
+        delegate.responseReceived(backend, latencyNanos, succeeded);
+    }
+
+    @Override
+    public void requestCompleted(BackendServer backend) {
+        BackendHealth backendHealth = healthByBackend.get(backend);
+        if (backendHealth != null && loadAwareDelegate == null) {
+            backendHealth.requestCompleted();
+        }
+        delegate.requestCompleted(backend);
+    }
+
+    @Override
+    public boolean isAvailable(BackendServer backend) {
+        BackendHealth backendHealth = healthByBackend.get(backend);
+        return backendHealth == null || backendHealth.isAvailable(System.nanoTime());
+    }
+
+    private BackendServer chooseLeastLoadedAvailable(long now, ThreadLocalRandom random) {
+        int count = health.length;
+        int start = random.nextInt(count);
+        int selected = -1;
+        double selectedScore = Double.MAX_VALUE;
+        for (int step = 0; step < count; step++) {
+            int index = start + step < count ? start + step : start + step - count;
+            BackendHealth candidateHealth = health[index];
+            if (!candidateHealth.isAvailable(now)) {
+                continue;
+            }
+            double effectiveWeight = backends.get(index).getWeight()
+                    * candidateHealth.getAdmissionFraction(now, slowStartNanos);
+            double score = (getInFlightCount(index) + 1) / effectiveWeight;
+            if (score < selectedScore) {
+                selected = index;
+                selectedScore = score;
+            }
+        }
+        return selected >= 0 ? backends.get(selected) : delegate.chooseServer();
+    }
+
+    int getInFlightCount(int index) {
+        return loadAwareDelegate != null
+                ? loadAwareDelegate.getInFlightCount(backends.get(index))
+                : health[index].getInFlightCount();
+    }
+
+    private void probeBackends() {
+        for (int i = 0; i < health.length; i++) {
+            Optional<URI> address = backends.get(i).getAddress();
+            if (address.isPresent() && health[i].tryBeginProbe()) {
+                probe(address.get(), health[i]);
+            }
+        }
+    }
+
+    private void probe(URI address, BackendHealth backendHealth) {
+        String base = address.toString();
+        if (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + config.probePath()))
+                .timeout(config.probeTimeout())
+                .GET()
+                .build();
+        try {
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> recordProbe(
+                            backendHealth,
+                            failure == null && response.statusCode() >= 200 && response.statusCode() < 400
+                    ));
+        } catch (RuntimeException e) {
+            recordProbe(backendHealth, false);
+        }
+    }
+
+    private void recordProbe(BackendHealth backendHealth, boolean succeeded) {
+        backendHealth.recordProbe(
+                succeeded,
+                System.nanoTime(),
+                config.unhealthyThreshold(),
+                config.healthyThreshold()
+        );
+    }
+}
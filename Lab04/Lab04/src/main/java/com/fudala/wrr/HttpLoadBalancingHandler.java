@@ -1,34 +1,238 @@
 package com.fudala.wrr;
 
+import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
-public record HttpLoadBalancingHandler(LoadBalancer loadBalancer) implements HttpHandler {
+public record HttpLoadBalancingHandler(
+        LoadBalancer loadBalancer,
+        HttpClient httpClient,
+        Duration requestTimeout
+) implements HttpHandler {
+
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection",
+            "keep-alive",
+            "proxy-authenticate",
+            "proxy-authorization",
+            "proxy-connection",
+            "te",
+            "trailer",
+            "transfer-encoding",
+            "upgrade"
+    );
+    private static final Set<String> CLIENT_MANAGED_HEADERS = Set.of("content-length", "expect", "host");
+    private static final String FORWARDED_HEADER_PREFIX = "x-forwarded-";
 
     public HttpLoadBalancingHandler {
         if (loadBalancer == null) {
             throw new IllegalArgumentException("loadBalancer must not be null");
         }
+        if (httpClient == null) {
+            throw new IllegalArgumentException("httpClient must not be null");
+        }
+        if (requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("requestTimeout must be positive");
+        }
+    }
+
+    public HttpLoadBalancingHandler(LoadBalancer loadBalancer, HttpClient httpClient) {
+        this(loadBalancer, httpClient, DEFAULT_REQUEST_TIMEOUT);
     }
 
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
-            exchange.sendResponseHeaders(405, -1);
-            exchange.close();
+        try (exchange) {
+            BackendServer backendServer = loadBalancer.chooseServer();
+            backendServer.incrementServedCount();
+            Optional<URI> address = backendServer.getAddress();
+            if (address.isEmpty()) {
+                sendError(exchange, 502, "Backend " + backendServer.getId() + " has no address");
+                return;
+            }
+            loadBalancer.requestStarted(backendServer);
+            try {
+                forward(exchange, backendServer, address.get());
+            } finally {
+                loadBalancer.requestCompleted(backendServer);
+            }
+        }
+    }
+
+    private void forward(HttpExchange exchange, BackendServer backendServer, URI backendAddress) throws IOException {
+        long startNanos = System.nanoTime();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(buildRequest(exchange, backendAddress), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (HttpTimeoutException e) {
+            loadBalancer.responseReceived(backendServer, System.nanoTime() - startNanos, false);
+            sendError(exchange, 504, "Backend " + backendServer.getId() + " timed out");
+            return;
+        } catch (IOException e) {
+            loadBalancer.responseReceived(backendServer, System.nanoTime() - startNanos, false);
+            sendError(exchange, 502, "Backend " + backendServer.getId() + " is unavailable");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, 503, "Proxy is shutting down");
             return;
         }
-        BackendServer backendServer = loadBalancer.chooseServer();
-        backendServer.incrementServedCount();
-        String responseBody =
-                "{\"backendId\":\"" + backendServer.getId() + "\",\"servedCount\":" + backendServer.getServedCount() + "}";
-        byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+        // headers have arrived; the body relay below is paced by the downstream client, not the backend
+        loadBalancer.responseReceived(backendServer, System.nanoTime() - startNanos, response.statusCode() < 500);
+        relayResponse(exchange, response);
+    }
+
+    private HttpRequest buildRequest(HttpExchange exchange, URI backendAddress) {
+        URI requestUri = exchange.getRequestURI();
+        String path = requestUri.getRawPath() == null || requestUri.getRawPath().isEmpty() ? "/" : requestUri.getRawPath();
+        String query = requestUri.getRawQuery() == null ? "" : "?" + requestUri.getRawQuery();
+        String base = backendAddress.toString();
+        if (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+
+        Headers requestHeaders = exchange.getRequestHeaders();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(base + path + query))
+                .timeout(requestTimeout)
+                .method(exchange.getRequestMethod(), requestBody(exchange));
+        Set<String> excluded = excludedHeaders(requestHeaders);
+        for (Map.Entry<String, List<String>> header : requestHeaders.entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (excluded.contains(name) || CLIENT_MANAGED_HEADERS.contains(name) || name.startsWith(FORWARDED_HEADER_PREFIX)) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        builder.header("X-Forwarded-For", forwardedFor(exchange));
+        String host = requestHeaders.getFirst("Host");
+        if (host != null) {
+            builder.header("X-Forwarded-Host", host);
+        }
+        builder.header("X-Forwarded-Proto", "http");
+        return builder.build();
+    }
+
+    private static HttpRequest.BodyPublisher requestBody(HttpExchange exchange) {
+        Headers headers = exchange.getRequestHeaders();
+        OptionalLong contentLength = contentLength(headers.getFirst("Content-Length"));
+        if (contentLength.isPresent()) {
+            if (contentLength.getAsLong() == 0) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+            return HttpRequest.BodyPublishers.fromPublisher(
+                    HttpRequest.BodyPublishers.ofInputStream(exchange::getRequestBody),
+                    contentLength.getAsLong()
+            );
+        }
+        if (headers.containsKey("Transfer-Encoding")) {
+            return HttpRequest.BodyPublishers.ofInputStream(exchange::getRequestBody);
+        }
+        return HttpRequest.BodyPublishers.noBody();
+    }
+
+    private static void relayResponse(HttpExchange exchange, HttpResponse<InputStream> response) throws IOException {
+        try (InputStream body = response.body()) {
+            Headers responseHeaders = exchange.getResponseHeaders();
+            Set<String> excluded = excludedHeaders(response.headers().map());
+            for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+                String name = header.getKey().toLowerCase(Locale.ROOT);
+                if (excluded.contains(name) || name.equals("content-length") || name.startsWith(":")) {
+                    continue;
+                }
+                responseHeaders.put(header.getKey(), List.copyOf(header.getValue()));
+            }
+
+            int status = response.statusCode();
+            boolean bodyless = "HEAD".equalsIgnoreCase(exchange.getRequestMethod())
+                    || status == 204
+                    || status == 304
+                    || (status >= 100 && status < 200);
+            OptionalLong contentLength = contentLength(response.headers().firstValue("Content-Length").orElse(null));
+            long responseLength;
+            if (bodyless || (contentLength.isPresent() && contentLength.getAsLong() == 0)) {
+                responseLength = -1;
+            } else {
+                responseLength = contentLength.orElse(0);
+            }
+            exchange.sendResponseHeaders(status, responseLength);
+            if (responseLength >= 0) {
+                try (OutputStream os = exchange.getResponseBody()) {
+                    body.transferTo(os);
+                }
+            }
+        }
+    }
+
+    private static Set<String> excludedHeaders(Map<String, List<String>> headers) {
+        Set<String> excluded = new HashSet<>(HOP_BY_HOP_HEADERS);
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (!header.getKey().equalsIgnoreCase("Connection")) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                for (String token : value.split(",")) {
+                    String name = token.trim().toLowerCase(Locale.ROOT);
+                    if (!name.isEmpty()) {
+                        excluded.add(name);
+                    }
+                }
+            }
+        }
+        return excluded;
+    }
+
+    private static String forwardedFor(HttpExchange exchange) {
+        String client = exchange.getRemoteAddress().getAddress().getHostAddress();
+        StringBuilder chain = new StringBuilder();
+        for (String value : exchange.getRequestHeaders().getOrDefault("X-Forwarded-For", List.of())) {
+            if (!value.isBlank()) {
+                chain.append(value.strip()).append(", ");
+            }
+        }
+        return chain.append(client).toString();
+    }
+
+    private static OptionalLong contentLength(String value) {
+        if (value == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            long length = Long.parseLong(value.trim());
+            return length < 0 ? OptionalLong.empty() : OptionalLong.of(length);
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] bytes = ("{\"error\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
         exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
-        exchange.sendResponseHeaders(200, bytes.length);
+        if ("HEAD".equalsIgnoreCase(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
         try (OutputStream os = exchange.getResponseBody()) {
             os.write(bytes);
         }
@@ -0,0 +1,93 @@
+package com.fudala.wrr;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+abstract class LoadAwareLoadBalancer implements LoadBalancer {
+
+    private final List<BackendServer> backends;
+    private final BackendLoad[] loads;
+    private final Map<BackendServer, BackendLoad> loadsByBackend;
+
+    LoadAwareLoadBalancer(List<BackendServer> backends) {
+        if (backends == null || backends.isEmpty()) {
+            throw new IllegalArgumentException("Backends list must not be empty");
+        }
+        this.backends = List.copyOf(backends);
+        this.loads = new BackendLoad[this.backends.size()];
+        this.loadsByBackend = new IdentityHashMap<>();
+        for (int i = 0; i < loads.length; i++) {
+            loads[i] = loadsByBackend.computeIfAbsent(this.backends.get(i), _ -> new BackendLoad());
+        }
+    }
+
+    @Override
+    public void updateWeight(String backendId, int newWeight) {
+        if (backendId == null || backendId.isBlank()) {
+            throw new IllegalArgumentException("Backend id must not be blank");
+        }
+        if (newWeight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive");
+        }
+        boolean found = false;
+        for (BackendServer backend : backends) {
+            if (backend.getId().equals(backendId)) {
+                backend.setWeight(newWeight);
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("Unknown backend id: " + backendId);
+        }
+    }
+
+    @Override
+    public List<BackendServer> getBackends() {
+        return backends;
+    }
+
+    @Override
+    public void requestStarted(BackendServer backend) {
+        BackendLoad load = loadsByBackend.get(backend);
+        if (load != null) {
+            load.requestStarted();
+        }
+    }
+
+    @Override
+    public void responseReceived(BackendServer backend, long latencyNanos, boolean succeeded) {
+        BackendLoad load = loadsByBackend.get(backend);
+        if (load != null) {
+            onResponseReceived(load, latencyNanos, succeeded);
+        }
+    }
+
+    @Override
+    public void requestCompleted(BackendServer backend) {
+        BackendLoad load = loadsByBackend.get(backend);
+        if (load != null) {
+            load.requestCompleted();
+        }
+    }
+
+    void onResponseReceived(BackendLoad load, long latencyNanos, boolean succeeded) {
+    }
+
+    int getInFlightCount(BackendServer backend) {
+        BackendLoad load = loadsByBackend.get(backend);
+        return load == null ? 0 : load.getInFlightCount();
+    }
+
+    int getBackendCount() {
+        return loads.length;
+    }
+
+    BackendServer getBackend(int index) {
+        return backends.get(index);
+    }
+
+    BackendLoad getLoad(int index) {
+        return loads[index];
+    }
+}
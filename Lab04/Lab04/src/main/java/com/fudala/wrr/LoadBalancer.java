@@ -8,4 +8,17 @@ public interface LoadBalancer {
     void updateWeight(String backendId, int newWeight);
 
     List<BackendServer> getBackends();
-}
\ No newline at end of file
+
+    default boolean isAvailable(BackendServer backend) {
+        return true;
+    }
+
+    default void requestStarted(BackendServer backend) {
+    }
+
+    default void responseReceived(BackendServer backend, long latencyNanos, boolean succeeded) {
+    }
+
+    default void requestCompleted(BackendServer backend) {
+    }
+}
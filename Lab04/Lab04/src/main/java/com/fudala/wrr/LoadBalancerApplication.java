@@ -27,6 +27,7 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 import javafx.util.converter.IntegerStringConverter;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +35,7 @@ import java.util.Objects;
 
 public final class LoadBalancerApplication extends Application {
 
+    private final List<StandInBackendServer> standInBackends = new ArrayList<>();
     private LoadBalancerServer loadBalancerServer;
     private ObservableList<BackendServer> backendServers;
     private TableView<BackendServer> tableView;
@@ -42,9 +44,9 @@ public final class LoadBalancerApplication extends Application {
     @Override
     public void start(Stage stage) throws Exception {
         List<BackendServer> servers = new ArrayList<>();
-        servers.add(new SimpleBackendServer("Backend A", 5));
-        servers.add(new SimpleBackendServer("Backend B", 3));
-        servers.add(new SimpleBackendServer("Backend C", 2));
+        servers.add(startStandInBackend("Backend A", 5));
+        servers.add(startStandInBackend("Backend B", 3));
+        servers.add(startStandInBackend("Backend C", 2));
 
         backendServers = FXCollections.observableArrayList(servers);
         loadBalancerServer = new LoadBalancerServer(new InetSocketAddress("localhost", 8080), backendServers);
@@ -105,9 +107,19 @@ public final class LoadBalancerApplication extends Application {
         if (loadBalancerServer != null) {
             loadBalancerServer.stop();
         }
+        for (StandInBackendServer standInBackend : standInBackends) {
+            standInBackend.stop();
+        }
         Platform.exit();
     }
 
+    private BackendServer startStandInBackend(String id, int weight) throws IOException {
+        StandInBackendServer standInBackend = new StandInBackendServer(id, new InetSocketAddress("localhost", 0));
+        standInBackend.start();
+        standInBackends.add(standInBackend);
+        return new SimpleBackendServer(id, weight, standInBackend.getAddress());
+    }
+
     private TableView<BackendServer> createTableView() {
         TableView<BackendServer> table = new TableView<>();
         table.setEditable(true);
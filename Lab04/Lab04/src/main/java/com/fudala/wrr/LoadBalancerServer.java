@@ -4,35 +4,99 @@ import com.sun.net.httpserver.HttpServer;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public final class LoadBalancerServer {
 
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1024;
+
     private final HttpServer httpServer;
-    private final LoadBalancer loadBalancer;
+    private final HttpClient httpClient;
+    private final HealthCheckingLoadBalancer loadBalancer;
     private final ExecutorService executor;
+    private final ExecutorMode executorMode;
+    private final ConcurrencyLimitingHandler proxyHandler;
 
     public LoadBalancerServer(InetSocketAddress address, List<BackendServer> backends) throws IOException {
-        this.loadBalancer = new WeightedRoundRobinLoadBalancer(backends);
+        this(address, backends, ExecutorMode.FIXED_THREAD_POOL, DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    public LoadBalancerServer(
+            InetSocketAddress address,
+            List<BackendServer> backends,
+            ExecutorMode executorMode,
+            int maxConcurrentRequests
+    ) throws IOException {
+        this(address, backends, executorMode, maxConcurrentRequests, LoadBalancingStrategy.WEIGHTED_ROUND_ROBIN);
+    }
+
+    public LoadBalancerServer(
+            InetSocketAddress address,
+            List<BackendServer> backends,
+            ExecutorMode executorMode,
+            int maxConcurrentRequests,
+            LoadBalancingStrategy strategy
+    ) throws IOException {
+        this(address, backends, executorMode, maxConcurrentRequests, strategy, HealthCheckConfig.defaults());
+    }
+
+    public LoadBalancerServer(
+            InetSocketAddress address,
+            List<BackendServer> backends,
+            ExecutorMode executorMode,
+            int maxConcurrentRequests,
+            LoadBalancingStrategy strategy,
+            HealthCheckConfig healthCheckConfig
+    ) throws IOException {
+        this.executorMode = Objects.requireNonNull(executorMode);
+        LoadBalancer selection = Objects.requireNonNull(strategy).create(backends);
         this.httpServer = HttpServer.create(address, 0);
-        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        this.httpServer.createContext("/", new HttpLoadBalancingHandler(loadBalancer));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        this.loadBalancer = new HealthCheckingLoadBalancer(selection, httpClient, healthCheckConfig);
+        this.proxyHandler = new ConcurrencyLimitingHandler(
+                new HttpLoadBalancingHandler(loadBalancer, httpClient),
+                maxConcurrentRequests
+        );
+        this.executor = executorMode.createExecutor();
+        this.httpServer.createContext("/", proxyHandler);
         this.httpServer.createContext("/metrics", new ServerMetricsHandler(loadBalancer));
         this.httpServer.setExecutor(executor);
     }
 
     public void start() {
         httpServer.start();
+        loadBalancer.start();
     }
 
     public void stop() {
+        loadBalancer.stop();
         httpServer.stop(0);
         executor.shutdownNow();
+        httpClient.shutdownNow();
     }
 
     public LoadBalancer getLoadBalancer() {
         return loadBalancer;
     }
-}
\ No newline at end of file
+
+    public ExecutorMode getExecutorMode() {
+        return executorMode;
+    }
+
+    public ConcurrencyLimitingHandler getProxyHandler() {
+        return proxyHandler;
+    }
+
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+}
@@ -0,0 +1,19 @@
+package com.fudala.wrr;
+
+import java.util.List;
+
+public enum LoadBalancingStrategy {
+    WEIGHTED_ROUND_ROBIN,
+    WEIGHTED_LEAST_CONNECTIONS,
+    POWER_OF_TWO_CHOICES,
+    PEAK_EWMA;
+
+    public LoadBalancer create(List<BackendServer> backends) {
+        return switch (this) {
+            case WEIGHTED_ROUND_ROBIN -> new WeightedRoundRobinLoadBalancer(backends);
+            case WEIGHTED_LEAST_CONNECTIONS -> new WeightedLeastConnectionsLoadBalancer(backends);
+            case POWER_OF_TWO_CHOICES -> new PowerOfTwoChoicesLoadBalancer(backends);
+            case PEAK_EWMA -> new PeakEwmaLoadBalancer(backends);
+        };
+    }
+}
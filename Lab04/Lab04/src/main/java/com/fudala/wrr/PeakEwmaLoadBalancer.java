@@ -0,0 +1,58 @@
+package com.fudala.wrr;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class PeakEwmaLoadBalancer extends LoadAwareLoadBalancer {
+
+    private static final Duration DEFAULT_DECAY = Duration.ofSeconds(10);
+    private static final double UNMEASURED_PENALTY_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final long FAILURE_PENALTY_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final double decayNanos;
+
+    public PeakEwmaLoadBalancer(List<BackendServer> backends) {
+        this(backends, DEFAULT_DECAY);
+    }
+
+    public PeakEwmaLoadBalancer(List<BackendServer> backends, Duration decay) {
+        super(backends);
+        if (decay == null || decay.isNegative() || decay.isZero()) {
+            throw new IllegalArgumentException("Decay must be positive");
+        }
+        this.decayNanos = decay.toNanos();
+    }
+
+    @Override
+    public BackendServer chooseServer() {
+        int count = getBackendCount();
+        if (count == 1) {
+            return getBackend(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        long now = System.nanoTime();
+        return getBackend(cost(second, now) < cost(first, now) ? second : first);
+    }
+
+    @Override
+    void onResponseReceived(BackendLoad load, long latencyNanos, boolean succeeded) {
+        long observed = succeeded ? latencyNanos : Math.max(latencyNanos, FAILURE_PENALTY_NANOS);
+        load.observeLatency(observed, System.nanoTime(), decayNanos);
+    }
+
+    private double cost(int index, long nowNanos) {
+        BackendLoad load = getLoad(index);
+        int inFlight = load.getInFlightCount();
+        double latency = load.getLatencyEstimateNanos(nowNanos, decayNanos);
+        double cost = latency == 0.0 && inFlight > 0
+                ? UNMEASURED_PENALTY_NANOS + inFlight
+                : latency * (inFlight + 1);
+        return cost / getBackend(index).getWeight();
+    }
+}
@@ -0,0 +1,30 @@
+package com.fudala.wrr;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class PowerOfTwoChoicesLoadBalancer extends LoadAwareLoadBalancer {
+
+    public PowerOfTwoChoicesLoadBalancer(List<BackendServer> backends) {
+        super(backends);
+    }
+
+    @Override
+    public BackendServer chooseServer() {
+        int count = getBackendCount();
+        if (count == 1) {
+            return getBackend(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        long firstLoad = getLoad(first).getInFlightCount() + 1L;
+        long secondLoad = getLoad(second).getInFlightCount() + 1L;
+        long firstWeight = getBackend(first).getWeight();
+        long secondWeight = getBackend(second).getWeight();
+        return getBackend(secondLoad * firstWeight < firstLoad * secondWeight ? second : first);
+    }
+}
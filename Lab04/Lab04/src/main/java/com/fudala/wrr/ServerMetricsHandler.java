@@ -33,6 +33,8 @@ public record ServerMetricsHandler(LoadBalancer loadBalancer) implements HttpHan
                     .append(backend.getWeight())
                     .append(",\"servedCount\":")
                     .append(backend.getServedCount())
+                    .append(",\"available\":")
+                    .append(loadBalancer.isAvailable(backend))
                     .append("}");
             if (i < backends.size() - 1) {
                 response.append(",");
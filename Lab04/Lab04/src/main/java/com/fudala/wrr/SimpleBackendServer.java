@@ -1,16 +1,27 @@
 package com.fudala.wrr;
 
+import java.net.URI;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 public final class SimpleBackendServer implements BackendServer {
 
     private final String id;
+    private final URI address;
     private final AtomicLong servedCount;
     private volatile int weight;
 
     public SimpleBackendServer(String id, int weight) {
+        this(id, weight, null);
+    }
+
+    public SimpleBackendServer(String id, int weight, URI address) {
         this.id = Objects.requireNonNull(id);
+        if (address != null && (address.getScheme() == null || address.getHost() == null)) {
+            throw new IllegalArgumentException("Address must be an absolute URI with a host");
+        }
+        this.address = address;
         if (weight <= 0) {
             throw new IllegalArgumentException("Weight must be positive");
         }
@@ -23,6 +34,11 @@ public final class SimpleBackendServer implements BackendServer {
         return id;
     }
 
+    @Override
+    public Optional<URI> getAddress() {
+        return Optional.ofNullable(address);
+    }
+
     @Override
     public int getWeight() {
         return weight;
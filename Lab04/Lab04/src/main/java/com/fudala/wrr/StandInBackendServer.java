@@ -0,0 +1,88 @@
+package com.fudala.wrr;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class StandInBackendServer {
+
+    private final String id;
+    private final Duration latency;
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+
+    public StandInBackendServer(String id, InetSocketAddress address) throws IOException {
+        this(id, address, Duration.ZERO);
+    }
+
+    public StandInBackendServer(String id, InetSocketAddress address, Duration latency) throws IOException {
+        this.id = Objects.requireNonNull(id);
+        this.latency = Objects.requireNonNull(latency);
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+        this.httpServer = HttpServer.create(address, 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpServer.createContext("/", this::handle);
+        this.httpServer.setExecutor(executor);
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    public void stop() {
+        httpServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public URI getAddress() {
+        InetSocketAddress address = httpServer.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long requestBytes;
+            try (InputStream body = exchange.getRequestBody()) {
+                requestBytes = body.transferTo(OutputStream.nullOutputStream());
+            }
+            if (!latency.isZero()) {
+                try {
+                    Thread.sleep(latency);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            String responseBody = "{\"backendId\":\"" + id
+                    + "\",\"method\":\"" + exchange.getRequestMethod()
+                    + "\",\"path\":\"" + exchange.getRequestURI().getRawPath()
+                    + "\",\"requestBytes\":" + requestBytes + "}";
+            byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            if ("HEAD".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.fudala.wrr;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class WeightedLeastConnectionsLoadBalancer extends LoadAwareLoadBalancer {
+
+    public WeightedLeastConnectionsLoadBalancer(List<BackendServer> backends) {
+        super(backends);
+    }
+
+    @Override
+    public BackendServer chooseServer() {
+        int count = getBackendCount();
+        int start = ThreadLocalRandom.current().nextInt(count);
+        int selected = start;
+        long selectedInFlight = getLoad(start).getInFlightCount();
+        long selectedWeight = getBackend(start).getWeight();
+        for (int step = 1; step < count; step++) {
+            int index = start + step < count ? start + step : start + step - count;
+            long inFlight = getLoad(index).getInFlightCount();
+            long weight = getBackend(index).getWeight();
+            if (inFlight * selectedWeight < selectedInFlight * weight
+                    || (inFlight * selectedWeight == selectedInFlight * weight && weight > selectedWeight)) {
+                selected = index;
+                selectedInFlight = inFlight;
+                selectedWeight = weight;
+            }
+        }
+        return getBackend(selected);
+    }
+}
@@ -1,48 +1,29 @@
 package com.fudala.wrr;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class WeightedRoundRobinLoadBalancer implements LoadBalancer {
 
-    private final List<Node> nodes;
-    private int totalWeight;
+    static final int MAX_SCHEDULE_LENGTH = 1 << 16;
+
+    private final List<BackendServer> backends;
+    private final AtomicLong sequence;
+    private volatile BackendServer[] schedule;
 
     public WeightedRoundRobinLoadBalancer(List<BackendServer> backends) {
         if (backends == null || backends.isEmpty()) {
             throw new IllegalArgumentException("Backends list must not be empty");
         }
-        this.nodes = new ArrayList<>();
-        for (BackendServer backend : backends) {
-            this.nodes.add(new Node(backend));
-        }
-        recalculateTotalWeight();
-    }
-
-    private void recalculateTotalWeight() {
-        int sum = 0;
-        for (Node node : nodes) {
-            sum += node.weight;
-        }
-        this.totalWeight = sum;
+        this.backends = List.copyOf(backends);
+        this.sequence = new AtomicLong();
+        this.schedule = buildSchedule(this.backends);
     }
 
     @Override
-    public synchronized BackendServer chooseServer() {
-        Node selected = null;
-        for (Node node : nodes) {
-            node.currentWeight += node.weight;
-            if (selected == null || node.currentWeight > selected.currentWeight) {
-                selected = node;
-            }
-        }
-        if (selected == null) {
-            throw new IllegalStateException("No backend nodes configured");
-        }
-        selected.currentWeight -= totalWeight;
-        return selected.backend;
+    public BackendServer chooseServer() {
+        BackendServer[] current = schedule;
+        return current[Math.floorMod(sequence.getAndIncrement(), current.length)];
     }
 
     @Override
@@ -54,44 +35,74 @@ public final class WeightedRoundRobinLoadBalancer implements LoadBalancer {
             throw new IllegalArgumentException("Weight must be positive");
         }
         boolean found = false;
-        for (Node node : nodes) {
-            if (node.backend.getId().equals(backendId)) {
-                node.weight = newWeight;
-                node.backend.setWeight(newWeight);
+        for (BackendServer backend : backends) {
+            if (backend.getId().equals(backendId)) {
+                backend.setWeight(newWeight);
                 found = true;
             }
         }
         if (!found) {
             throw new IllegalArgumentException("Unknown backend id: " + backendId);
         }
-        recalculateTotalWeight();
-        resetCurrentWeights();
+        schedule = buildSchedule(backends);
+        // like resetting the smooth-WRR current weights: the new period starts from its first slot
+        sequence.set(0);
     }
 
     @Override
-    public synchronized List<BackendServer> getBackends() {
-        List<BackendServer> result = new ArrayList<>();
-        for (Node node : nodes) {
-            result.add(node.backend);
-        }
-        return Collections.unmodifiableList(result);
+    public List<BackendServer> getBackends() {
+        return backends;
     }
 
-    private void resetCurrentWeights() {
-        for (Node node : nodes) {
-            node.currentWeight = 0;
+    static BackendServer[] buildSchedule(List<BackendServer> backends) {
+        int[] weights = normalizedWeights(backends);
+        int totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
         }
+        BackendServer[] slots = new BackendServer[totalWeight];
+        int[] currentWeights = new int[weights.length];
+        for (int slot = 0; slot < totalWeight; slot++) {
+            int selected = 0;
+            for (int i = 0; i < weights.length; i++) {
+                currentWeights[i] += weights[i];
+                if (currentWeights[i] > currentWeights[selected]) {
+                    selected = i;
+                }
+            }
+            currentWeights[selected] -= totalWeight;
+            slots[slot] = backends.get(selected);
+        }
+        return slots;
     }
 
-    private static final class Node {
-        private final BackendServer backend;
-        private int weight;
-        private int currentWeight;
+    private static int[] normalizedWeights(List<BackendServer> backends) {
+        int[] weights = new int[backends.size()];
+        int divisor = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = backends.get(i).getWeight();
+            divisor = gcd(divisor, weights[i]);
+        }
+        long totalWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] /= divisor;
+            totalWeight += weights[i];
+        }
+        if (totalWeight > MAX_SCHEDULE_LENGTH) {
+            double scale = (double) MAX_SCHEDULE_LENGTH / totalWeight;
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = Math.max(1, (int) (weights[i] * scale));
+            }
+        }
+        return weights;
+    }
 
-        private Node(BackendServer backend) {
-            this.backend = Objects.requireNonNull(backend);
-            this.weight = backend.getWeight();
-            this.currentWeight = 0;
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
         }
+        return a;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package com.fudala.wrr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class BackendHealthTests {
+
+    private static final long SLOW_START = 1_000;
+    private static final long EJECTION = 500;
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void probesMarkBackendUnhealthyAndRampItBackIn() {
+        BackendHealth health = new BackendHealth();
+        assertEquals(1.0, health.getAdmissionFraction(0, SLOW_START), DELTA);
+
+        health.recordProbe(false, 10, 2, 2);
+        assertTrue(health.isAvailable(10));
+        health.recordProbe(false, 20, 2, 2);
+        assertFalse(health.isAvailable(20));
+
+        health.recordProbe(true, 30, 2, 2);
+        assertFalse(health.isAvailable(30));
+        health.recordProbe(true, 40, 2, 2);
+        assertTrue(health.isAvailable(40));
+        assertEquals(0.1, health.getAdmissionFraction(40, SLOW_START), DELTA);
+        assertEquals(0.5, health.getAdmissionFraction(540, SLOW_START), DELTA);
+        assertEquals(1.0, health.getAdmissionFraction(1_040, SLOW_START), DELTA);
+    }
+
+    @Test
+    public void finishedRampDoesNotSuppressTheNextSlowStart() {
+        BackendHealth health = new BackendHealth();
+        health.recordProbe(false, 0, 1, 1);
+        health.recordProbe(true, 0, 1, 1);
+        assertEquals(1.0, health.getAdmissionFraction(5_000, SLOW_START), DELTA);
+
+        health.recordProbe(false, 6_000, 1, 1);
+        health.recordProbe(true, 7_000, 1, 1);
+        assertEquals(0.25, health.getAdmissionFraction(7_250, SLOW_START), DELTA);
+    }
+
+    @Test
+    public void consecutiveFailuresEjectWithGrowingDuration() {
+        BackendHealth health = new BackendHealth();
+        health.recordResponse(false, 0, 2, EJECTION);
+        assertTrue(health.isAvailable(0));
+        health.recordResponse(false, 0, 2, EJECTION);
+        assertFalse(health.isAvailable(EJECTION - 1));
+        assertTrue(health.isAvailable(EJECTION));
+        assertEquals(0.1, health.getAdmissionFraction(EJECTION, SLOW_START), DELTA);
+
+        health.recordResponse(false, 600, 2, EJECTION);
+        health.recordResponse(false, 600, 2, EJECTION);
+        assertFalse(health.isAvailable(600 + 2 * EJECTION - 1));
+        assertTrue(health.isAvailable(600 + 2 * EJECTION));
+
+        health.recordResponse(true, 2_000, 2, EJECTION);
+        health.recordResponse(false, 2_000, 2, EJECTION);
+        health.recordResponse(false, 2_000, 2, EJECTION);
+        assertTrue(health.isAvailable(2_000 + EJECTION));
+    }
+
+    @Test
+    public void probeRecoveryDuringEjectionWaitsForTheEjectionToEnd() {
+        BackendHealth health = new BackendHealth();
+        health.recordResponse(false, 0, 1, EJECTION);
+        health.recordProbe(false, 100, 1, 1);
+        health.recordProbe(true, 200, 1, 1);
+
+        assertFalse(health.isAvailable(EJECTION - 1));
+        assertEquals(1.0, health.getAdmissionFraction(EJECTION - 1, SLOW_START), DELTA);
+        assertTrue(health.isAvailable(EJECTION));
+        assertEquals(0.1, health.getAdmissionFraction(EJECTION, SLOW_START), DELTA);
+        assertEquals(0.5, health.getAdmissionFraction(EJECTION + SLOW_START / 2, SLOW_START), DELTA);
+    }
+}
@@ -0,0 +1,146 @@
+package com.fudala.wrr;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public final class ConcurrencyLimitingHandlerTests {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private HttpServer server;
+
+    @After
+    public void stopServer() {
+        client.shutdownNow();
+        if (server != null) {
+            server.stop(0);
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void rejectsRequestsBeyondTheLimitWithRetryAfter() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrencyLimitingHandler limiter = new ConcurrencyLimitingHandler(exchange -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "done");
+        }, 1);
+        URI target = start(limiter);
+
+        CompletableFuture<HttpResponse<String>> first = client.sendAsync(
+                HttpRequest.newBuilder(target).build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getInFlightCount());
+
+        HttpResponse<String> rejected = client.send(HttpRequest.newBuilder(target).build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<Void> rejectedHead = client.send(
+                HttpRequest.newBuilder(target).method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+
+        assertEquals(503, rejected.statusCode());
+        assertEquals("1", rejected.headers().firstValue("Retry-After").orElse(null));
+        assertEquals("{\"error\":\"Too many concurrent requests\"}", rejected.body());
+        assertEquals(503, rejectedHead.statusCode());
+        assertEquals("1", rejectedHead.headers().firstValue("Retry-After").orElse(null));
+        assertEquals(2, limiter.getRejectedCount());
+
+        release.countDown();
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).statusCode());
+        awaitIdle(limiter);
+    }
+
+    @Test
+    public void releasesPermitWhenDelegateFails() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ConcurrencyLimitingHandler limiter = new ConcurrencyLimitingHandler(exchange -> {
+            if (calls.incrementAndGet() == 1) {
+                exchange.close();
+                throw new IOException("backend exploded");
+            }
+            if (calls.get() == 2) {
+                exchange.close();
+                throw new IllegalStateException("handler bug");
+            }
+            respond(exchange, "recovered");
+        }, 1);
+        URI target = start(limiter);
+
+        HttpRequest request = HttpRequest.newBuilder(target).POST(HttpRequest.BodyPublishers.noBody()).build();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IOException.class, () -> client.send(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("recovered", response.body());
+        assertEquals(3, calls.get());
+        awaitIdle(limiter);
+        assertEquals(0, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void rejectsNonPositiveLimits() {
+        HttpHandler delegate = exchange -> respond(exchange, "unused");
+
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimitingHandler(delegate, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimitingHandler(delegate, -1));
+    }
+
+    private static void awaitIdle(ConcurrencyLimitingHandler limiter) throws InterruptedException {
+        // the client can read the whole response before the handler thread releases its permit
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.getInFlightCount() != 0 && System.nanoTime() - deadline < 0) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, limiter.getInFlightCount());
+    }
+
+    private URI start(HttpHandler handler) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", handler);
+        server.setExecutor(executor);
+        server.start();
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try (exchange) {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.fudala.wrr;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+public final class ExecutorModeBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(ExecutorModeBenchmark.class.getName());
+
+    private static final Duration BACKEND_LATENCY = Duration.ofMillis(50);
+    private static final int CLIENT_CONCURRENCY = 200;
+    private static final int WARMUP_REQUESTS = 400;
+    private static final int MEASURED_REQUESTS = 4000;
+    private static final int MAX_CONCURRENT_REQUESTS = 1024;
+
+    private ExecutorModeBenchmark() {
+    }
+
+    private static void runWithExecutorMode(ExecutorMode executorMode, List<StandInBackendServer> standIns)
+            throws IOException, InterruptedException {
+        List<BackendServer> backends = new ArrayList<>();
+        for (StandInBackendServer standIn : standIns) {
+            backends.add(new SimpleBackendServer(standIn.getId(), 1, standIn.getAddress()));
+        }
+        LoadBalancerServer server = new LoadBalancerServer(
+                new InetSocketAddress("localhost", 0),
+                backends,
+                executorMode,
+                MAX_CONCURRENT_REQUESTS
+        );
+        server.start();
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            URI target = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+            sendRequests(client, target, WARMUP_REQUESTS);
+
+            long startNanos = System.nanoTime();
+            long[] latencies = sendRequests(client, target, MEASURED_REQUESTS);
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            long failures = latencies.length - Arrays.stream(latencies).filter(latency -> latency >= 0).count();
+            long[] successful = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            double throughput = MEASURED_REQUESTS * 1e9 / elapsedNanos;
+            String summary = String.format(
+                    Locale.US,
+                    "%s throughput=%.1f req/s p50=%.1f ms p99=%.1f ms failed=%d rejected=%d",
+                    executorMode,
+                    throughput,
+                    percentileMillis(successful, 0.50),
+                    percentileMillis(successful, 0.99),
+                    failures,
+                    server.getProxyHandler().getRejectedCount()
+            );
+            LOGGER.info(summary);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static long[] sendRequests(HttpClient client, URI target, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < CLIENT_CONCURRENCY; worker++) {
+                workers.add(clients.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(target).GET().build();
+                    for (int index = next.getAndIncrement(); index < requests; index = next.getAndIncrement()) {
+                        long startNanos = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies[index] = response.statusCode() == 200 ? System.nanoTime() - startNanos : -1;
+                        } catch (IOException e) {
+                            latencies[index] = -1;
+                        }
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Benchmark client failed", e.getCause());
+            }
+        }
+        return latencies;
+    }
+
+    private static double percentileMillis(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<StandInBackendServer> standIns = new ArrayList<>();
+        try {
+            for (String id : List.of("Backend A", "Backend B", "Backend C")) {
+                StandInBackendServer standIn = new StandInBackendServer(
+                        id,
+                        new InetSocketAddress("localhost", 0),
+                        BACKEND_LATENCY
+                );
+                standIn.start();
+                standIns.add(standIn);
+            }
+            for (ExecutorMode executorMode : ExecutorMode.values()) {
+                runWithExecutorMode(executorMode, standIns);
+            }
+        } finally {
+            for (StandInBackendServer standIn : standIns) {
+                standIn.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.fudala.wrr;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class HealthCheckingLoadBalancerTests {
+
+    private static final int ROUNDS = 200;
+    private static final int FAILURES_TO_EJECT = 3;
+    private static final HealthCheckConfig PASSIVE_ONLY = new HealthCheckConfig(
+            "/health",
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(1),
+            1,
+            1,
+            FAILURES_TO_EJECT,
+            Duration.ofMinutes(1),
+            Duration.ZERO
+    );
+
+    private final List<HttpServer> servers = new ArrayList<>();
+    private ExecutorService executor;
+    private HttpClient httpClient;
+
+    @Before
+    public void createClient() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @After
+    public void stopServers() {
+        for (HttpServer server : servers) {
+            server.stop(0);
+        }
+        httpClient.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void chooseServerSkipsEjectedBackends() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 1);
+        HealthCheckingLoadBalancer balancer = new HealthCheckingLoadBalancer(
+                new WeightedRoundRobinLoadBalancer(List.of(a, b)),
+                httpClient,
+                PASSIVE_ONLY
+        );
+
+        for (int i = 0; i < FAILURES_TO_EJECT; i++) {
+            assertTrue(balancer.isAvailable(a));
+            balancer.responseReceived(a, 0, false);
+        }
+
+        assertFalse(balancer.isAvailable(a));
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(b, balancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void fallsBackToLeastLoadedAvailableBackendWhenDelegateKeepsChoosingAnEjectedOne() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 1);
+        BackendServer c = new SimpleBackendServer("C", 2);
+        HealthCheckingLoadBalancer balancer = new HealthCheckingLoadBalancer(
+                new FixedChoiceLoadBalancer(List.of(a, b, c)),
+                httpClient,
+                PASSIVE_ONLY
+        );
+        eject(balancer, a);
+        start(balancer, b, 1);
+        start(balancer, c, 4);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(b, balancer.chooseServer());
+        }
+
+        balancer.requestCompleted(c);
+        balancer.requestCompleted(c);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(c, balancer.chooseServer());
+        }
+
+        eject(balancer, b);
+        eject(balancer, c);
+        assertSame(a, balancer.chooseServer());
+    }
+
+    @Test
+    public void proxiedServerErrorsEjectTheBackend() throws Exception {
+        HttpServer failing = startBackend(exchange -> respond(exchange, 500, "failing"));
+        HttpServer healthy = startBackend(exchange -> respond(exchange, 200, "healthy"));
+        assertEjectedThroughProxy(address(failing), address(healthy), 500);
+    }
+
+    @Test
+    public void unreachableBackendIsEjectedThroughTheProxy() throws Exception {
+        URI unreachable;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unreachable = URI.create("http://localhost:" + socket.getLocalPort());
+        }
+        HttpServer healthy = startBackend(exchange -> respond(exchange, 200, "healthy"));
+        assertEjectedThroughProxy(unreachable, address(healthy), 502);
+    }
+
+    @Test
+    public void scheduledProbesTakeBackendOutAndBringItBack() throws Exception {
+        AtomicInteger healthStatus = new AtomicInteger(200);
+        HttpServer flapping = startBackend(exchange -> respond(exchange, healthStatus.get(), "flapping"));
+        HttpServer steady = startBackend(exchange -> respond(exchange, 200, "steady"));
+        BackendServer a = new SimpleBackendServer("A", 1, address(flapping));
+        BackendServer b = new SimpleBackendServer("B", 1, address(steady));
+        HealthCheckingLoadBalancer balancer = new HealthCheckingLoadBalancer(
+                new WeightedRoundRobinLoadBalancer(List.of(a, b)),
+                httpClient,
+                new HealthCheckConfig(
+                        "/health",
+                        Duration.ofMillis(20),
+                        Duration.ofSeconds(1),
+                        2,
+                        2,
+                        FAILURES_TO_EJECT,
+                        Duration.ofMinutes(1),
+                        Duration.ZERO
+                )
+        );
+        balancer.start();
+        try {
+            assertTrue(balancer.isAvailable(a));
+
+            healthStatus.set(503);
+            await(() -> !balancer.isAvailable(a));
+            for (int i = 0; i < ROUNDS; i++) {
+                assertSame(b, balancer.chooseServer());
+            }
+
+            healthStatus.set(200);
+            await(() -> balancer.isAvailable(a));
+            int chosenA = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                if (balancer.chooseServer() == a) {
+                    chosenA++;
+                }
+            }
+            assertEquals(ROUNDS / 2, chosenA);
+        } finally {
+            balancer.stop();
+        }
+    }
+
+    private void assertEjectedThroughProxy(URI failingAddress, URI healthyAddress, int failureStatus) throws Exception {
+        BackendServer failing = new SimpleBackendServer("Failing", 1, failingAddress);
+        BackendServer healthy = new SimpleBackendServer("Healthy", 1, healthyAddress);
+        HealthCheckingLoadBalancer balancer = new HealthCheckingLoadBalancer(
+                new WeightedRoundRobinLoadBalancer(List.of(failing, healthy)),
+                httpClient,
+                PASSIVE_ONLY
+        );
+        HttpServer proxy = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        proxy.createContext("/", new HttpLoadBalancingHandler(balancer, httpClient));
+        proxy.setExecutor(executor);
+        proxy.start();
+        servers.add(proxy);
+
+        int failures = 0;
+        for (int i = 0; i < 20; i++) {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(address(proxy) + "/work")).build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            if (response.statusCode() == failureStatus) {
+                failures++;
+            } else {
+                assertEquals(200, response.statusCode());
+                assertEquals("healthy", response.body());
+            }
+        }
+
+        assertEquals(FAILURES_TO_EJECT, failures);
+        assertFalse(balancer.isAvailable(failing));
+        assertTrue(balancer.isAvailable(healthy));
+    }
+
+    private HttpServer startBackend(ExchangeHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                handler.handle(exchange);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+        servers.add(server);
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static URI address(HttpServer server) {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    private static void eject(LoadBalancer balancer, BackendServer backend) {
+        for (int i = 0; i < FAILURES_TO_EJECT; i++) {
+            balancer.responseReceived(backend, 0, false);
+        }
+    }
+
+    private static void start(LoadBalancer balancer, BackendServer backend, int requests) {
+        for (int i = 0; i < requests; i++) {
+            balancer.requestStarted(backend);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() - deadline < 0) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private interface ExchangeHandler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    private static final class FixedChoiceLoadBalancer implements LoadBalancer {
+        private final List<BackendServer> backends;
+
+        private FixedChoiceLoadBalancer(List<BackendServer> backends) {
+            this.backends = backends;
+        }
+
+        @Override
+        public BackendServer chooseServer() {
+            return backends.getFirst();
+        }
+
+        @Override
+        public void updateWeight(String backendId, int newWeight) {
+        }
+
+        @Override
+        public List<BackendServer> getBackends() {
+            return backends;
+        }
+    }
+}
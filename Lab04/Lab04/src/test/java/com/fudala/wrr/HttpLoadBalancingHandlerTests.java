@@ -0,0 +1,417 @@
+package com.fudala.wrr;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class HttpLoadBalancingHandlerTests {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration BODY_DELAY = Duration.ofMillis(400);
+
+    private final AtomicReference<Headers> lastRequestHeaders = new AtomicReference<>();
+    private ExecutorService executor;
+    private HttpServer backend;
+    private HttpClient proxyClient;
+    private HttpClient client;
+    private HttpServer proxy;
+
+    @Before
+    public void startServers() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        backend = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        backend.createContext("/echo", this::echo);
+        backend.createContext("/no-content", exchange -> {
+            try (exchange) {
+                exchange.sendResponseHeaders(204, -1);
+            }
+        });
+        backend.createContext("/hop-by-hop", exchange -> {
+            try (exchange) {
+                Headers headers = exchange.getResponseHeaders();
+                headers.set("Connection", "X-Backend-Private");
+                headers.set("X-Backend-Private", "secret");
+                headers.set("Keep-Alive", "timeout=5");
+                headers.set("Proxy-Authenticate", "Basic");
+                headers.set("Upgrade", "h2c");
+                headers.set("X-Backend-Public", "visible");
+                exchange.sendResponseHeaders(200, -1);
+            }
+        });
+        backend.createContext("/slow-body", exchange -> {
+            try (exchange; OutputStream out = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(200, 0);
+                out.write('a');
+                out.flush();
+                Thread.sleep(BODY_DELAY);
+                out.write('b');
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        backend.createContext("/slow", exchange -> {
+            try (exchange) {
+                Thread.sleep(REQUEST_TIMEOUT.multipliedBy(4));
+                exchange.sendResponseHeaders(200, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        backend.setExecutor(executor);
+        backend.start();
+
+        proxyClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        proxy = startProxy(new SimpleBackendServer("backend", 1, backendAddress()));
+    }
+
+    @After
+    public void stopServers() {
+        proxy.stop(0);
+        backend.stop(0);
+        proxyClient.shutdownNow();
+        client.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void streamsRequestBodyWithContentLength() throws Exception {
+        byte[] payload = payload(1 << 20);
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(proxyUri(proxy, "/echo"))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+        );
+
+        assertEquals(200, response.statusCode());
+        assertEquals(String.valueOf(payload.length), lastRequestHeaders.get().getFirst("Content-Length"));
+        assertArrayEquals(payload, response.body());
+    }
+
+    @Test
+    public void streamsChunkedRequestBodyWithoutContentLength() throws Exception {
+        byte[] payload = payload(1 << 20);
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(proxyUri(proxy, "/echo"))
+                        .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(payload)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+        );
+
+        assertEquals(200, response.statusCode());
+        assertNull(lastRequestHeaders.get().getFirst("Content-Length"));
+        assertArrayEquals(payload, response.body());
+    }
+
+    @Test
+    public void stripsHopByHopRequestHeaders() throws IOException {
+        RawResponse response = rawRequest(
+                "GET /echo HTTP/1.1\r\n"
+                        + "Host: proxy.example\r\n"
+                        + "Connection: close\r\n"
+                        + "Connection: X-Client-Private\r\n"
+                        + "X-Client-Private: secret\r\n"
+                        + "Keep-Alive: timeout=5\r\n"
+                        + "Proxy-Authorization: Basic abc\r\n"
+                        + "TE: trailers\r\n"
+                        + "Upgrade: h2c\r\n"
+                        + "X-Client-Public: visible\r\n"
+                        + "\r\n"
+        );
+
+        assertEquals(200, response.status());
+        Headers forwarded = lastRequestHeaders.get();
+        for (String name : List.of("X-Client-Private", "Keep-Alive", "Proxy-Authorization", "TE", "Upgrade")) {
+            assertFalse(name + " was forwarded", forwarded.containsKey(name));
+        }
+        String connection = forwarded.getFirst("Connection");
+        assertTrue(connection == null || !connection.toLowerCase(Locale.ROOT).contains("x-client-private"));
+        assertEquals("visible", forwarded.getFirst("X-Client-Public"));
+        assertEquals("proxy.example", forwarded.getFirst("X-Forwarded-Host"));
+        assertEquals("127.0.0.1", forwarded.getFirst("X-Forwarded-For"));
+        assertEquals("http", forwarded.getFirst("X-Forwarded-Proto"));
+    }
+
+    @Test
+    public void appendsToExistingForwardedHeadersInsteadOfDuplicatingThem() throws IOException {
+        RawResponse response = rawRequest(
+                "GET /echo HTTP/1.1\r\n"
+                        + "Host: proxy.example\r\n"
+                        + "Connection: close\r\n"
+                        + "X-Forwarded-For: 203.0.113.7\r\n"
+                        + "X-Forwarded-For: 198.51.100.2\r\n"
+                        + "X-Forwarded-Host: client.example\r\n"
+                        + "X-Forwarded-Proto: https\r\n"
+                        + "\r\n"
+        );
+
+        assertEquals(200, response.status());
+        Headers forwarded = lastRequestHeaders.get();
+        assertEquals(List.of("203.0.113.7, 198.51.100.2, 127.0.0.1"), forwarded.get("X-Forwarded-For"));
+        assertEquals(List.of("proxy.example"), forwarded.get("X-Forwarded-Host"));
+        assertEquals(List.of("http"), forwarded.get("X-Forwarded-Proto"));
+    }
+
+    @Test
+    public void stripsHopByHopResponseHeaders() throws Exception {
+        HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(proxyUri(proxy, "/hop-by-hop")).build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+
+        assertEquals(200, response.statusCode());
+        for (String name : List.of("X-Backend-Private", "Keep-Alive", "Proxy-Authenticate", "Upgrade")) {
+            assertTrue(name + " was relayed", response.headers().firstValue(name).isEmpty());
+        }
+        assertEquals("visible", response.headers().firstValue("X-Backend-Public").orElse(null));
+    }
+
+    @Test
+    public void headResponseHasNoBody() throws IOException {
+        RawResponse response = rawRequest("HEAD /echo HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n");
+
+        assertEquals(200, response.status());
+        assertEquals("HEAD", lastRequestHeaders.get().getFirst("X-Echo-Method"));
+        assertEquals(0, response.body().length);
+    }
+
+    @Test
+    public void noContentResponseHasNoBody() throws IOException {
+        RawResponse response = rawRequest("GET /no-content HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n");
+
+        assertEquals(204, response.status());
+        assertFalse(response.headers().contains("content-length: "));
+        assertFalse(response.headers().contains("transfer-encoding: chunked"));
+        assertEquals(0, response.body().length);
+    }
+
+    @Test
+    public void backendWithoutAddressAnswersBadGateway() throws Exception {
+        HttpServer addressless = startProxy(new SimpleBackendServer("addressless", 1));
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(proxyUri(addressless, "/echo")).build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+
+            assertEquals(502, response.statusCode());
+            assertTrue(response.body().contains("has no address"));
+        } finally {
+            addressless.stop(0);
+        }
+    }
+
+    @Test
+    public void unreachableBackendAnswersBadGateway() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        HttpServer unreachable = startProxy(
+                new SimpleBackendServer("unreachable", 1, URI.create("http://localhost:" + closedPort))
+        );
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(proxyUri(unreachable, "/echo")).build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+
+            assertEquals(502, response.statusCode());
+            assertTrue(response.body().contains("is unavailable"));
+        } finally {
+            unreachable.stop(0);
+        }
+    }
+
+    @Test
+    public void slowBackendAnswersGatewayTimeout() throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(proxyUri(proxy, "/slow")).build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        assertEquals(504, response.statusCode());
+        assertTrue(response.body().contains("timed out"));
+    }
+
+    @Test
+    public void reportsBackendLatencyWhenHeadersArrive() throws Exception {
+        RecordingLoadBalancer recording = new RecordingLoadBalancer(
+                new SimpleBackendServer("backend", 1, backendAddress())
+        );
+        HttpServer recorded = startProxy(recording);
+        try {
+            long startNanos = System.nanoTime();
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(proxyUri(recorded, "/slow-body")).build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            long totalNanos = System.nanoTime() - startNanos;
+
+            assertEquals(200, response.statusCode());
+            assertEquals("ab", response.body());
+            long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+            while (recording.events.size() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of("started", "response", "completed"), recording.events);
+            assertTrue(totalNanos >= BODY_DELAY.toNanos());
+            assertTrue(recording.latencyNanos < BODY_DELAY.toNanos() / 2);
+        } finally {
+            recorded.stop(0);
+        }
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Headers headers = new Headers();
+            headers.putAll(exchange.getRequestHeaders());
+            headers.set("X-Echo-Method", exchange.getRequestMethod());
+            lastRequestHeaders.set(headers);
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+
+    private HttpServer startProxy(BackendServer backendServer) throws IOException {
+        return startProxy(new WeightedRoundRobinLoadBalancer(List.of(backendServer)));
+    }
+
+    private HttpServer startProxy(LoadBalancer loadBalancer) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpLoadBalancingHandler(loadBalancer, proxyClient, REQUEST_TIMEOUT));
+        server.setExecutor(executor);
+        server.start();
+        return server;
+    }
+
+    private URI backendAddress() {
+        return URI.create("http://localhost:" + backend.getAddress().getPort());
+    }
+
+    private static URI proxyUri(HttpServer server, String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private RawResponse rawRequest(String request) throws IOException {
+        try (Socket socket = new Socket("localhost", proxy.getAddress().getPort())) {
+            socket.setSoTimeout((int) REQUEST_TIMEOUT.multipliedBy(10).toMillis());
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+            byte[] raw = socket.getInputStream().readAllBytes();
+            int headerEnd = indexOf(raw, "\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            String head = new String(raw, 0, headerEnd, StandardCharsets.US_ASCII);
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            body.write(raw, headerEnd + 4, raw.length - headerEnd - 4);
+            int status = Integer.parseInt(head.substring(9, 12));
+            return new RawResponse(status, head.toLowerCase(Locale.ROOT), body.toByteArray());
+        }
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        for (int i = 0; i + pattern.length <= data.length; i++) {
+            boolean matches = true;
+            for (int j = 0; j < pattern.length && matches; j++) {
+                matches = data[i + j] == pattern[j];
+            }
+            if (matches) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Response has no header terminator");
+    }
+
+    private static byte[] payload(int length) {
+        byte[] payload = new byte[length];
+        new Random(42).nextBytes(payload);
+        return payload;
+    }
+
+    private record RawResponse(int status, String headers, byte[] body) {
+    }
+
+    private static final class RecordingLoadBalancer implements LoadBalancer {
+        private final BackendServer backend;
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile long latencyNanos = -1;
+
+        private RecordingLoadBalancer(BackendServer backend) {
+            this.backend = backend;
+        }
+
+        @Override
+        public BackendServer chooseServer() {
+            return backend;
+        }
+
+        @Override
+        public void updateWeight(String backendId, int newWeight) {
+            backend.setWeight(newWeight);
+        }
+
+        @Override
+        public List<BackendServer> getBackends() {
+            return List.of(backend);
+        }
+
+        @Override
+        public void requestStarted(BackendServer backend) {
+            events.add("started");
+        }
+
+        @Override
+        public void responseReceived(BackendServer backend, long latencyNanos, boolean succeeded) {
+            this.latencyNanos = latencyNanos;
+            events.add("response");
+        }
+
+        @Override
+        public void requestCompleted(BackendServer backend) {
+            events.add("completed");
+        }
+    }
+}
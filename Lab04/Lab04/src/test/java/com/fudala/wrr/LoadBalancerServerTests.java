@@ -0,0 +1,147 @@
+package com.fudala.wrr;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class LoadBalancerServerTests {
+
+    private static final int CONCURRENT_REQUESTS = 64;
+
+    private final List<StandInBackendServer> standIns = new ArrayList<>();
+    private LoadBalancerServer server;
+    private HttpClient client;
+
+    @Before
+    public void startServers() throws IOException {
+        List<BackendServer> backends = new ArrayList<>();
+        for (String id : List.of("Backend A", "Backend B")) {
+            StandInBackendServer standIn = new StandInBackendServer(id, new InetSocketAddress("localhost", 0));
+            standIn.start();
+            standIns.add(standIn);
+            backends.add(new SimpleBackendServer(id, id.endsWith("A") ? 3 : 1, standIn.getAddress()));
+        }
+        server = new LoadBalancerServer(new InetSocketAddress("localhost", 0), backends);
+        server.start();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @After
+    public void stopServers() {
+        client.shutdownNow();
+        server.stop();
+        for (StandInBackendServer standIn : standIns) {
+            standIn.stop();
+        }
+    }
+
+    @Test
+    public void forwardsRequestsToStandInBackendsByWeight() throws Exception {
+        int requestsToA = 0;
+        for (int i = 0; i < 8; i++) {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(uri("/orders/" + i))
+                            .PUT(HttpRequest.BodyPublishers.ofString("x".repeat(i)))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().contains("\"method\":\"PUT\""));
+            assertTrue(response.body().contains("\"path\":\"/orders/" + i + "\""));
+            assertTrue(response.body().contains("\"requestBytes\":" + i));
+            if (response.body().contains("\"backendId\":\"Backend A\"")) {
+                requestsToA++;
+            }
+        }
+        assertEquals(6, requestsToA);
+    }
+
+    @Test
+    public void metricsReportServedCounts() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            client.send(HttpRequest.newBuilder(uri("/")).build(), HttpResponse.BodyHandlers.discarding());
+        }
+        HttpResponse<String> metrics = client.send(
+                HttpRequest.newBuilder(uri("/metrics")).build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.body().contains("\"backendId\":\"Backend A\",\"weight\":3,\"servedCount\":3"));
+        assertTrue(metrics.body().contains("\"backendId\":\"Backend B\",\"weight\":1,\"servedCount\":1"));
+    }
+
+    @Test
+    public void virtualThreadModeServesConcurrentSlowRequests() throws Exception {
+        StandInBackendServer slow = new StandInBackendServer(
+                "Backend Slow",
+                new InetSocketAddress("localhost", 0),
+                Duration.ofMillis(200)
+        );
+        slow.start();
+        standIns.add(slow);
+        LoadBalancerServer virtual = new LoadBalancerServer(
+                new InetSocketAddress("localhost", 0),
+                List.of(new SimpleBackendServer(slow.getId(), 1, slow.getAddress())),
+                ExecutorMode.VIRTUAL_THREADS,
+                CONCURRENT_REQUESTS
+        );
+        virtual.start();
+        try {
+            assertEquals(ExecutorMode.VIRTUAL_THREADS, virtual.getExecutorMode());
+            URI target = URI.create("http://localhost:" + virtual.getAddress().getPort() + "/virtual");
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(client.sendAsync(HttpRequest.newBuilder(target).build(), HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                HttpResponse<String> completed = response.get(10, TimeUnit.SECONDS);
+                assertEquals(200, completed.statusCode());
+                assertTrue(completed.body().contains("\"backendId\":\"Backend Slow\""));
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+            assertTrue("requests were serialized: " + elapsedMillis + " ms", elapsedMillis < 10 * 200);
+            assertEquals(0, virtual.getProxyHandler().getRejectedCount());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (virtual.getProxyHandler().getInFlightCount() != 0 && System.nanoTime() - deadline < 0) {
+                Thread.sleep(5);
+            }
+            assertEquals(0, virtual.getProxyHandler().getInFlightCount());
+        } finally {
+            virtual.stop();
+        }
+    }
+
+    @Test
+    public void virtualThreadModeRunsHandlersOnVirtualThreads() throws Exception {
+        ExecutorService executor = ExecutorMode.VIRTUAL_THREADS.createExecutor();
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().isVirtual()).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+}
@@ -0,0 +1,94 @@
+package com.fudala.wrr;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+public final class PeakEwmaLoadBalancerTests {
+
+    private static final double DECAY = 1_000;
+    private static final int ROUNDS = 200;
+
+    @Test
+    public void estimateJumpsToPeaksAndDecaysBack() {
+        BackendLoad load = new BackendLoad();
+        assertEquals(0.0, load.getLatencyEstimateNanos(0, DECAY), 0.0);
+
+        load.observeLatency(100, 0, DECAY);
+        load.observeLatency(1_000, 10, DECAY);
+        assertEquals(1_000.0, load.getLatencyEstimateNanos(10, DECAY), 1e-9);
+        assertEquals(1_000.0 * Math.exp(-1), load.getLatencyEstimateNanos(1_010, DECAY), 1e-9);
+
+        load.observeLatency(100, 1_010, DECAY);
+        double retained = Math.exp(-1);
+        assertEquals(1_000.0 * retained + 100 * (1 - retained), load.getLatencyEstimateNanos(1_010, DECAY), 1e-9);
+        for (long now = 2_010; now <= 20_010; now += 1_000) {
+            load.observeLatency(100, now, DECAY);
+        }
+        assertEquals(100.0, load.getLatencyEstimateNanos(20_010, DECAY), 1e-3);
+    }
+
+    @Test
+    public void prefersLowerLatencyAndPenalisesFailures() {
+        BackendServer fast = new SimpleBackendServer("Fast", 1);
+        BackendServer slow = new SimpleBackendServer("Slow", 1);
+        PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer(List.of(fast, slow), Duration.ofMinutes(1));
+        balancer.responseReceived(fast, Duration.ofMillis(2).toNanos(), true);
+        balancer.responseReceived(slow, Duration.ofMillis(20).toNanos(), true);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(fast, balancer.chooseServer());
+        }
+
+        balancer.responseReceived(fast, Duration.ofMillis(1).toNanos(), false);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(slow, balancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void weighsLatencyByInFlightRequestsAndWeight() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 1);
+        PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer(List.of(a, b), Duration.ofMinutes(1));
+        balancer.responseReceived(a, Duration.ofMillis(10).toNanos(), true);
+        balancer.responseReceived(b, Duration.ofMillis(15).toNanos(), true);
+        assertSame(a, balancer.chooseServer());
+
+        balancer.requestStarted(a);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(b, balancer.chooseServer());
+        }
+
+        balancer.updateWeight("A", 3);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(a, balancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void unmeasuredBackendWithRequestsInFlightIsAvoided() {
+        BackendServer measured = new SimpleBackendServer("Measured", 1);
+        BackendServer unmeasured = new SimpleBackendServer("Unmeasured", 1);
+        PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer(List.of(measured, unmeasured));
+        balancer.responseReceived(measured, Duration.ofMillis(50).toNanos(), true);
+        balancer.requestStarted(unmeasured);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(measured, balancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void rejectsNonPositiveDecay() {
+        List<BackendServer> backends = List.of(new SimpleBackendServer("A", 1));
+
+        assertThrows(IllegalArgumentException.class, () -> new PeakEwmaLoadBalancer(backends, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new PeakEwmaLoadBalancer(backends, Duration.ofSeconds(-1)));
+    }
+}
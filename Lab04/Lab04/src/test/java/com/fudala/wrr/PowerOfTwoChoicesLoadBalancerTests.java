@@ -0,0 +1,70 @@
+package com.fudala.wrr;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public final class PowerOfTwoChoicesLoadBalancerTests {
+
+    private static final int ROUNDS = 1_000;
+
+    @Test
+    public void twoBackendsAlwaysCompareBothAndPickTheLessLoaded() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 1);
+        PowerOfTwoChoicesLoadBalancer balancer = new PowerOfTwoChoicesLoadBalancer(List.of(a, b));
+        balancer.requestStarted(b);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(a, balancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void mostLoadedBackendIsNeverPicked() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 1);
+        BackendServer c = new SimpleBackendServer("C", 1);
+        PowerOfTwoChoicesLoadBalancer balancer = new PowerOfTwoChoicesLoadBalancer(List.of(a, b, c));
+        for (int i = 0; i < 5; i++) {
+            balancer.requestStarted(c);
+        }
+
+        Set<BackendServer> picked = new HashSet<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            BackendServer chosen = balancer.chooseServer();
+            assertNotSame(c, chosen);
+            picked.add(chosen);
+        }
+        assertEquals(Set.of(a, b), picked);
+    }
+
+    @Test
+    public void comparesLoadPerWeight() {
+        BackendServer light = new SimpleBackendServer("Light", 1);
+        BackendServer heavy = new SimpleBackendServer("Heavy", 4);
+        PowerOfTwoChoicesLoadBalancer balancer = new PowerOfTwoChoicesLoadBalancer(List.of(light, heavy));
+        balancer.requestStarted(light);
+        for (int i = 0; i < 3; i++) {
+            balancer.requestStarted(heavy);
+        }
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(heavy, balancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void singleBackendIsAlwaysChosen() {
+        BackendServer only = new SimpleBackendServer("Only", 1);
+        PowerOfTwoChoicesLoadBalancer balancer = new PowerOfTwoChoicesLoadBalancer(List.of(only));
+
+        assertSame(only, balancer.chooseServer());
+    }
+}
@@ -0,0 +1,94 @@
+package com.fudala.wrr;
+
+import org.junit.Test;
+
+import java.net.http.HttpClient;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public final class WeightedLeastConnectionsLoadBalancerTests {
+
+    private static final int ROUNDS = 200;
+
+    @Test
+    public void picksLowestInFlightPerWeight() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 2);
+        BackendServer c = new SimpleBackendServer("C", 4);
+        WeightedLeastConnectionsLoadBalancer balancer = new WeightedLeastConnectionsLoadBalancer(List.of(a, b, c));
+        start(balancer, a, 1);
+        start(balancer, b, 1);
+        start(balancer, c, 3);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(b, balancer.chooseServer());
+        }
+
+        start(balancer, b, 2);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(c, balancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void breaksRatioTiesTowardsHigherWeight() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 2);
+        BackendServer c = new SimpleBackendServer("C", 4);
+        WeightedLeastConnectionsLoadBalancer balancer = new WeightedLeastConnectionsLoadBalancer(List.of(a, b, c));
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(c, balancer.chooseServer());
+        }
+
+        start(balancer, a, 1);
+        start(balancer, b, 2);
+        start(balancer, c, 4);
+        for (int i = 0; i < ROUNDS; i++) {
+            assertSame(c, balancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void completedRequestsReleaseLoad() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 1);
+        WeightedLeastConnectionsLoadBalancer balancer = new WeightedLeastConnectionsLoadBalancer(List.of(a, b));
+        start(balancer, a, 2);
+        start(balancer, b, 1);
+        assertSame(b, balancer.chooseServer());
+
+        balancer.requestCompleted(a);
+        balancer.requestCompleted(a);
+        assertSame(a, balancer.chooseServer());
+    }
+
+    @Test
+    public void healthCheckingWrapperSharesTheDelegateCounter() {
+        BackendServer a = new SimpleBackendServer("A", 1);
+        BackendServer b = new SimpleBackendServer("B", 1);
+        WeightedLeastConnectionsLoadBalancer delegate = new WeightedLeastConnectionsLoadBalancer(List.of(a, b));
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            HealthCheckingLoadBalancer wrapper = new HealthCheckingLoadBalancer(delegate, httpClient, HealthCheckConfig.defaults());
+
+            wrapper.requestStarted(a);
+            wrapper.requestStarted(a);
+            wrapper.requestStarted(b);
+
+            assertEquals(2, delegate.getInFlightCount(a));
+            assertEquals(2, wrapper.getInFlightCount(0));
+            assertEquals(1, wrapper.getInFlightCount(1));
+            wrapper.requestCompleted(a);
+            assertEquals(1, delegate.getInFlightCount(a));
+            assertEquals(1, wrapper.getInFlightCount(0));
+        }
+    }
+
+    private static void start(LoadBalancer balancer, BackendServer backend, int requests) {
+        for (int i = 0; i < requests; i++) {
+            balancer.requestStarted(backend);
+        }
+    }
+}
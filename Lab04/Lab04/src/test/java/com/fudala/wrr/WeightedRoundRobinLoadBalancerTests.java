@@ -0,0 +1,123 @@
+package com.fudala.wrr;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class WeightedRoundRobinLoadBalancerTests {
+
+    @Test
+    public void scheduleMatchesPerRequestSmoothRoundRobin() {
+        int[][] weightSets = {
+                {1},
+                {5, 3, 2},
+                {1, 1, 1},
+                {7, 1},
+                {2, 4, 6},
+                {100, 250, 50},
+                {13, 17, 19, 23}
+        };
+        for (int[] weights : weightSets) {
+            List<BackendServer> backends = backends(weights);
+            BackendServer[] schedule = WeightedRoundRobinLoadBalancer.buildSchedule(backends);
+            int totalWeight = 0;
+            for (int weight : weights) {
+                totalWeight += weight;
+            }
+            assertEquals(0, totalWeight % schedule.length);
+            assertArrayEquals(smoothRoundRobin(backends, weights, totalWeight), repeat(schedule, totalWeight));
+        }
+    }
+
+    @Test
+    public void scaledScheduleMatchesSmoothRoundRobinOfScaledWeights() {
+        int[] weights = {100_003, 200_000, 7};
+        List<BackendServer> backends = backends(weights);
+        BackendServer[] schedule = WeightedRoundRobinLoadBalancer.buildSchedule(backends);
+        assertTrue(schedule.length <= WeightedRoundRobinLoadBalancer.MAX_SCHEDULE_LENGTH);
+
+        Map<BackendServer, Integer> slots = new HashMap<>();
+        for (BackendServer backend : schedule) {
+            slots.merge(backend, 1, Integer::sum);
+        }
+        long totalWeight = 100_003L + 200_000L + 7L;
+        int[] scaledWeights = new int[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            scaledWeights[i] = slots.getOrDefault(backends.get(i), 0);
+            double expected = (double) weights[i] * WeightedRoundRobinLoadBalancer.MAX_SCHEDULE_LENGTH / totalWeight;
+            assertTrue(scaledWeights[i] >= 1);
+            assertTrue(Math.abs(scaledWeights[i] - expected) <= 1.0);
+        }
+        assertArrayEquals(smoothRoundRobin(backends, scaledWeights, schedule.length), schedule);
+    }
+
+    @Test
+    public void chooseServerFollowsTheSchedule() {
+        List<BackendServer> backends = backends(new int[]{5, 3, 2});
+        WeightedRoundRobinLoadBalancer loadBalancer = new WeightedRoundRobinLoadBalancer(backends);
+        BackendServer[] expected = smoothRoundRobin(backends, new int[]{5, 3, 2}, 20);
+        for (BackendServer backend : expected) {
+            assertSame(backend, loadBalancer.chooseServer());
+        }
+    }
+
+    @Test
+    public void updateWeightRestartsTheScheduleFromItsFirstSlot() {
+        List<BackendServer> backends = backends(new int[]{5, 3, 2});
+        WeightedRoundRobinLoadBalancer loadBalancer = new WeightedRoundRobinLoadBalancer(backends);
+        for (int i = 0; i < 7; i++) {
+            loadBalancer.chooseServer();
+        }
+        loadBalancer.updateWeight("backend-1", 1);
+
+        BackendServer[] expected = smoothRoundRobin(backends, new int[]{5, 1, 2}, 16);
+        for (BackendServer backend : expected) {
+            assertSame(backend, loadBalancer.chooseServer());
+        }
+    }
+
+    private static List<BackendServer> backends(int[] weights) {
+        List<BackendServer> backends = new ArrayList<>();
+        for (int i = 0; i < weights.length; i++) {
+            backends.add(new SimpleBackendServer("backend-" + i, weights[i]));
+        }
+        return backends;
+    }
+
+    private static BackendServer[] smoothRoundRobin(List<BackendServer> backends, int[] weights, int requests) {
+        long totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
+        }
+        long[] currentWeights = new long[weights.length];
+        BackendServer[] selections = new BackendServer[requests];
+        for (int request = 0; request < requests; request++) {
+            int selected = -1;
+            for (int i = 0; i < weights.length; i++) {
+                currentWeights[i] += weights[i];
+                if (selected < 0 || currentWeights[i] > currentWeights[selected]) {
+                    selected = i;
+                }
+            }
+            currentWeights[selected] -= totalWeight;
+            selections[request] = backends.get(selected);
+        }
+        return selections;
+    }
+
+    private static BackendServer[] repeat(BackendServer[] schedule, int length) {
+        BackendServer[] repeated = new BackendServer[length];
+        for (int i = 0; i < length; i++) {
+            repeated[i] = schedule[i % schedule.length];
+        }
+        return repeated;
+    }
+}
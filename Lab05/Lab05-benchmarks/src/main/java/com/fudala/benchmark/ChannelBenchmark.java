@@ -0,0 +1,52 @@
+package com.fudala.benchmark;
+
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.ErrorInjection;
+import com.fudala.domain.RandomBitErrorChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChannelBenchmark {
+
+    @Param({"PER_BIT", "GEOMETRIC_SKIP"})
+    public ErrorInjection injection;
+
+    @Param({"0.000001", "0.001", "0.1"})
+    public double bitErrorProbability;
+
+    @Param({"7", "1024", "16384"})
+    public int frameBits;
+
+    private RandomBitErrorChannel channel;
+    private BitBuffer frame;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        channel = new RandomBitErrorChannel(bitErrorProbability, new SplittableRandom(42L), injection);
+        frame = Codec.randomPayload(frameBits, 7L);
+    }
+
+    @Benchmark
+    public int transmit() {
+        return channel.transmit(frame);
+    }
+}
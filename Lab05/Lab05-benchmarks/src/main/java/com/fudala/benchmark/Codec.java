@@ -0,0 +1,65 @@
+package com.fudala.benchmark;
+
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.BlockCode;
+import com.fudala.domain.CrcAlgorithm;
+import com.fudala.domain.CrcCode;
+import com.fudala.domain.CrcParameters;
+import com.fudala.domain.DecodingStatus;
+import com.fudala.domain.DecodingTally;
+import com.fudala.domain.ErrorControlCode;
+import com.fudala.domain.ExtendedHammingCode;
+import com.fudala.domain.HammingCode;
+import com.fudala.domain.ReedSolomonCode;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+public enum Codec {
+    HAMMING_7_4(HammingCode::new),
+    HAMMING_15_11(() -> new HammingCode(4)),
+    HAMMING_127_120(() -> new HammingCode(7)),
+    SECDED_8_4(ExtendedHammingCode::new),
+    SECDED_64_57(() -> new ExtendedHammingCode(6)),
+    RS_255_223(ReedSolomonCode::new),
+    CRC_8(CrcCode::new),
+    CRC_32_TABLE(() -> new CrcCode(CrcParameters.CRC_32, CrcAlgorithm.TABLE)),
+    CRC_32_SLICE_BY_8(() -> new CrcCode(CrcParameters.CRC_32, CrcAlgorithm.SLICE_BY_8)),
+    CRC_32_INTRINSIC(() -> new CrcCode(CrcParameters.CRC_32, CrcAlgorithm.INTRINSIC));
+
+    private final Supplier<ErrorControlCode> factory;
+
+    Codec(Supplier<ErrorControlCode> factory) {
+        this.factory = factory;
+    }
+
+    public ErrorControlCode create() {
+        return factory.get();
+    }
+
+    static void encode(ErrorControlCode code, BitBuffer data, BitBuffer target) {
+        if (code instanceof BlockCode block) {
+            block.encodeBlocks(data, target);
+        } else {
+            code.encode(data, target);
+        }
+    }
+
+    static DecodingStatus decode(ErrorControlCode code, BitBuffer received, BitBuffer data, DecodingTally tally) {
+        if (code instanceof BlockCode block) {
+            block.decodeBlocks(received, data, tally);
+            return tally.status();
+        }
+        return code.decode(received, data);
+    }
+
+    static BitBuffer randomPayload(int length, long seed) {
+        var random = new SplittableRandom(seed);
+        var payload = new BitBuffer(length);
+        for (var from = 0; from < length; from += Long.SIZE) {
+            var count = Math.min(Long.SIZE, length - from);
+            payload.setBits(from, count, random.nextLong() >>> (Long.SIZE - count));
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,83 @@
+package com.fudala.benchmark;
+
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.CrcCode;
+import com.fudala.domain.DecodingStatus;
+import com.fudala.domain.DecodingTally;
+import com.fudala.domain.ErrorControlCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"HAMMING_7_4", "HAMMING_15_11", "HAMMING_127_120", "SECDED_8_4", "SECDED_64_57", "RS_255_223", "CRC_8", "CRC_32_TABLE", "CRC_32_SLICE_BY_8", "CRC_32_INTRINSIC"})
+    public Codec codec;
+
+    @Param({"64", "1024", "16384"})
+    public int payloadBits;
+
+    private ErrorControlCode code;
+    private BitBuffer payload;
+    private BitBuffer encoded;
+    private BitBuffer corrupted;
+    private BitBuffer frame;
+    private BitBuffer decoded;
+    private DecodingTally tally;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        code = codec.create();
+        payload = Codec.randomPayload(payloadBits, 42L);
+        encoded = new BitBuffer(0);
+        Codec.encode(code, payload, encoded);
+        corrupted = new BitBuffer(encoded.length());
+        corrupted.copyFrom(encoded);
+        corrupted.flip(encoded.length() / 2);
+        frame = new BitBuffer(encoded.length());
+        decoded = new BitBuffer(payload.length());
+        tally = new DecodingTally();
+    }
+
+    @Benchmark
+    public BitBuffer encode() {
+        Codec.encode(code, payload, frame);
+        return frame;
+    }
+
+    @Benchmark
+    public DecodingStatus decode() {
+        return Codec.decode(code, encoded, decoded, tally);
+    }
+
+    @Benchmark
+    public DecodingStatus decodeCorrupted() {
+        return Codec.decode(code, corrupted, decoded, tally);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        if (code instanceof CrcCode crc) {
+            var dataLength = encoded.length() - crc.engine().width();
+            return crc.engine().checksum(encoded, 0, dataLength) == encoded.getBits(dataLength, crc.engine().width());
+        }
+        return !Codec.decode(code, encoded, decoded, tally).errorDetected();
+    }
+}
@@ -0,0 +1,73 @@
+package com.fudala.benchmark;
+
+import com.fudala.domain.CrcAlgorithm;
+import com.fudala.domain.CrcEngine;
+import com.fudala.domain.CrcParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrcBenchmark {
+
+    @Param({"CRC_8", "CRC_16_CCITT_FALSE", "CRC_32", "CRC_64_ECMA_182"})
+    public String profile;
+
+    @Param({"BITWISE", "TABLE", "SLICE_BY_4", "SLICE_BY_8"})
+    public CrcAlgorithm algorithm;
+
+    @Param({"64", "1500", "65536"})
+    public int bytes;
+
+    private CrcEngine engine;
+    private byte[] data;
+    private ByteBuffer direct;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new CrcEngine(parameters(profile), algorithm);
+        data = new byte[bytes];
+        new SplittableRandom(42L).nextBytes(data);
+        direct = ByteBuffer.allocateDirect(bytes);
+        direct.put(data).flip();
+    }
+
+    @Benchmark
+    public long checksumArray() {
+        return engine.checksum(data);
+    }
+
+    @Benchmark
+    public long checksumDirectBuffer() {
+        direct.rewind();
+        return engine.finish(engine.update(engine.initialRegister(), direct));
+    }
+
+    private static CrcParameters parameters(String profile) {
+        return switch (profile) {
+            case "CRC_8" -> CrcParameters.CRC_8;
+            case "CRC_16_CCITT_FALSE" -> CrcParameters.CRC_16_CCITT_FALSE;
+            case "CRC_32" -> CrcParameters.CRC_32;
+            case "CRC_64_ECMA_182" -> CrcParameters.CRC_64_ECMA_182;
+            default -> throw new IllegalArgumentException("Unknown CRC profile: " + profile);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.fudala.benchmark;
+
+import com.fudala.domain.BlockCode;
+import com.fudala.domain.BlockDecodingSummary;
+import com.fudala.domain.HammingBatchDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class HammingBatchBenchmark {
+
+    private static final int CODEWORDS = 4096;
+
+    @Param({"HAMMING_7_4", "HAMMING_15_11", "SECDED_8_4", "SECDED_64_57"})
+    public Codec codec;
+
+    @Param({"true", "false"})
+    public boolean vector;
+
+    private HammingBatchDecoder decoder;
+    private long[] codewords;
+    private long[] data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var code = (BlockCode) codec.create();
+        decoder = vector ? HammingBatchDecoder.of(code) : HammingBatchDecoder.scalar(code);
+        var random = new SplittableRandom(42L);
+        var mask = code.codewordLength() == Long.SIZE ? -1L : (1L << code.codewordLength()) - 1;
+        codewords = new long[CODEWORDS];
+        data = new long[CODEWORDS];
+        for (var i = 0; i < CODEWORDS; i++) {
+            codewords[i] = random.nextLong() & mask;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CODEWORDS)
+    public BlockDecodingSummary decodeBatch() {
+        return decoder.decode(codewords, data, CODEWORDS);
+    }
+}
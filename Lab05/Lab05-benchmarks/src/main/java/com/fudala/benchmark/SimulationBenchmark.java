@@ -0,0 +1,64 @@
+package com.fudala.benchmark;
+
+import com.fudala.application.TransmissionSimulator;
+import com.fudala.application.TransmissionStatistics;
+import com.fudala.domain.ErrorControlCode;
+import com.fudala.domain.ErrorInjection;
+import com.fudala.domain.RandomBitErrorChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationBenchmark {
+
+    private static final int PACKETS = 1024;
+
+    @Param({"HAMMING_7_4", "HAMMING_127_120", "SECDED_64_57", "CRC_8", "CRC_32_SLICE_BY_8"})
+    public Codec codec;
+
+    @Param({"0.0001", "0.01"})
+    public double bitErrorProbability;
+
+    @Param({"PER_BIT", "GEOMETRIC_SKIP"})
+    public ErrorInjection injection;
+
+    @Param({"128", "4096"})
+    public int payloadBits;
+
+    private final TransmissionSimulator simulator = new TransmissionSimulator();
+    private ErrorControlCode code;
+    private RandomBitErrorChannel channel;
+    private String dataBits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        code = codec.create();
+        channel = new RandomBitErrorChannel(bitErrorProbability, new SplittableRandom(42L), injection);
+        dataBits = Codec.randomPayload(payloadBits, 7L).toString();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PACKETS)
+    public TransmissionStatistics simulatePackets() {
+        return simulator.runTest(code, channel, dataBits, PACKETS);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fudala.application;
+
+public record AdaptiveSimulationResult(
+        TransmissionStatistics statistics,
+        SimulationSnapshot snapshot,
+        StopReason stopReason
+) {
+}
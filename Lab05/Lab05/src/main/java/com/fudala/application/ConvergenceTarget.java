@@ -0,0 +1,18 @@
+package com.fudala.application;
+
+import java.util.function.Function;
+
+public enum ConvergenceTarget {
+    DETECTED_ERRORS(SimulationSnapshot::detectedErrorRate),
+    UNDETECTED_ERRORS(SimulationSnapshot::undetectedErrorRate);
+
+    private final Function<SimulationSnapshot, RateEstimate> rate;
+
+    ConvergenceTarget(Function<SimulationSnapshot, RateEstimate> rate) {
+        this.rate = rate;
+    }
+
+    public RateEstimate rate(SimulationSnapshot snapshot) {
+        return rate.apply(snapshot);
+    }
+}
@@ -0,0 +1,95 @@
+package com.fudala.application;
+
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.ErrorControlCode;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public final class ErrorPatternEnumerator {
+
+    private static final int MAX_CODEWORD_LENGTH = Long.SIZE;
+
+    public ErrorPatternSpectrum enumerate(ErrorControlCode code, String dataBits, int maxWeight) {
+        return enumerate(code, dataBits, maxWeight, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ErrorPatternSpectrum enumerate(ErrorControlCode code, String dataBits, int maxWeight, int parallelism) {
+        Objects.requireNonNull(code, "code must not be null");
+        if (!BitBuffer.isBinary(dataBits)) {
+            throw new IllegalArgumentException("dataBits must be a non-empty binary string");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+
+        var data = BitBuffer.of(dataBits);
+        var encoded = new BitBuffer(code.encodedLength(data.length()));
+        code.encode(data, encoded);
+        var length = encoded.length();
+        if (length > MAX_CODEWORD_LENGTH) {
+            throw new IllegalArgumentException("Exhaustive enumeration supports code words up to "
+                    + MAX_CODEWORD_LENGTH + " bits");
+        }
+        if (maxWeight < 1 || maxWeight > length) {
+            throw new IllegalArgumentException("maxWeight must be between 1 and " + length);
+        }
+
+        var weights = new ArrayList<WeightCounts>(maxWeight);
+        try (var pool = new ForkJoinPool(parallelism)) {
+            for (var weight = 1; weight <= maxWeight; weight++) {
+                var w = weight;
+                weights.add(pool.submit(() -> IntStream.range(w - 1, length)
+                        .parallel()
+                        .mapToObj(highest -> enumerate(code, encoded, w, highest))
+                        .reduce(new WeightCounts(w, 0, 0, 0, 0), WeightCounts::merge)
+                ).join());
+            }
+        }
+        return new ErrorPatternSpectrum(length, weights);
+    }
+
+    private WeightCounts enumerate(ErrorControlCode code, BitBuffer encoded, int weight, int highest) {
+        var length = encoded.length();
+        var received = new BitBuffer(length);
+        received.copyFrom(encoded);
+        var decoded = new BitBuffer(0);
+        var prefix = 1L << highest;
+        var patterns = 0L;
+        var detected = 0L;
+        var corrected = 0L;
+        var undetected = 0L;
+
+        var lower = (1L << (weight - 1)) - 1;
+        while (Long.compareUnsigned(lower, prefix) < 0) {
+            var pattern = prefix | lower;
+            received.xorBits(0, length, pattern);
+            var status = code.decode(received, decoded);
+            received.copyFrom(encoded);
+
+            patterns++;
+            if (status.errorDetected()) {
+                detected++;
+            } else {
+                undetected++;
+            }
+            if (status.errorCorrected()) {
+                corrected++;
+            }
+
+            if (lower == 0) {
+                break;
+            }
+            lower = nextCombination(lower);
+        }
+        return new WeightCounts(weight, patterns, detected, corrected, undetected);
+    }
+
+    private static long nextCombination(long combination) {
+        var lowest = combination & -combination;
+        var ripple = combination + lowest;
+        return ripple | (((ripple ^ combination) >>> 2) / lowest);
+    }
+}
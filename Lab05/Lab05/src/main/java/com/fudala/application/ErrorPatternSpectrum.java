@@ -0,0 +1,50 @@
+package com.fudala.application;
+
+import java.util.List;
+import java.util.Objects;
+
+public record ErrorPatternSpectrum(int codewordLength, List<WeightCounts> weights) {
+
+    public ErrorPatternSpectrum {
+        if (codewordLength <= 0) {
+            throw new IllegalArgumentException("codewordLength must be positive");
+        }
+        weights = List.copyOf(Objects.requireNonNull(weights, "weights must not be null"));
+    }
+
+    public int maxWeight() {
+        return weights.isEmpty() ? 0 : weights.getLast().weight();
+    }
+
+    public ExactRates rates(double bitErrorProbability) {
+        if (!(bitErrorProbability >= 0.0 && bitErrorProbability <= 1.0)) {
+            throw new IllegalArgumentException("bitErrorProbability must be between 0.0 and 1.0");
+        }
+        var detected = 0.0;
+        var corrected = 0.0;
+        var undetected = 0.0;
+        var enumerated = 0.0;
+        for (var counts : weights) {
+            var probability = patternProbability(counts.weight(), bitErrorProbability);
+            detected += counts.detected() * probability;
+            corrected += counts.corrected() * probability;
+            undetected += counts.undetected() * probability;
+            enumerated += counts.patterns() * probability;
+        }
+        var channelErrors = -Math.expm1(codewordLength * Math.log1p(-bitErrorProbability));
+        return new ExactRates(
+                bitErrorProbability,
+                channelErrors,
+                detected,
+                corrected,
+                undetected,
+                Math.max(0.0, channelErrors - enumerated)
+        );
+    }
+
+    private double patternProbability(int weight, double bitErrorProbability) {
+        var errorTerm = weight == 0 ? 0.0 : weight * Math.log(bitErrorProbability);
+        var successTerm = weight == codewordLength ? 0.0 : (codewordLength - weight) * Math.log1p(-bitErrorProbability);
+        return Math.exp(errorTerm + successTerm);
+    }
+}
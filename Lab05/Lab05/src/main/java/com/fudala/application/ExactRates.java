@@ -0,0 +1,11 @@
+package com.fudala.application;
+
+public record ExactRates(
+        double bitErrorProbability,
+        double channelErrorRate,
+        double detectedErrorRate,
+        double correctedErrorRate,
+        double undetectedErrorRate,
+        double truncatedProbability
+) {
+}
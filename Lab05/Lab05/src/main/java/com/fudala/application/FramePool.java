@@ -0,0 +1,17 @@
+package com.fudala.application;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+final class FramePool {
+
+    private final ConcurrentLinkedQueue<PacketWorkspace> available = new ConcurrentLinkedQueue<>();
+
+    PacketWorkspace acquire(int frameLength) {
+        var workspace = available.poll();
+        return workspace != null && workspace.frameLength == frameLength ? workspace : new PacketWorkspace(frameLength);
+    }
+
+    void release(PacketWorkspace workspace) {
+        available.offer(workspace);
+    }
+}
@@ -0,0 +1,36 @@
+package com.fudala.application;
+
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.BlockCode;
+import com.fudala.domain.DecodingStatus;
+import com.fudala.domain.DecodingTally;
+import com.fudala.domain.ErrorControlCode;
+
+final class Frames {
+
+    private Frames() {
+    }
+
+    static BitBuffer encode(ErrorControlCode code, BitBuffer data) {
+        if (code instanceof BlockCode block) {
+            var encoded = new BitBuffer(block.blockCount(data.length()) * block.codewordLength());
+            block.encodeBlocks(data, encoded);
+            return encoded;
+        }
+        var encoded = new BitBuffer(code.encodedLength(data.length()));
+        code.encode(data, encoded);
+        return encoded;
+    }
+
+    static DecodingStatus decode(ErrorControlCode code, BitBuffer received, BitBuffer decoded) {
+        return decode(code, received, decoded, new DecodingTally());
+    }
+
+    static DecodingStatus decode(ErrorControlCode code, BitBuffer received, BitBuffer decoded, DecodingTally tally) {
+        if (code instanceof BlockCode block) {
+            block.decodeBlocks(received, decoded, tally);
+            return tally.status();
+        }
+        return code.decode(received, decoded);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fudala.application;
+
+public record ImportanceSamplingResult(
+        long totalPackets,
+        double bitErrorProbability,
+        double biasedProbability,
+        RateEstimate channelErrorRate,
+        RateEstimate detectedErrorRate,
+        RateEstimate undetectedErrorRate
+) {
+}
@@ -0,0 +1,20 @@
+package com.fudala.application;
+
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.DecodingTally;
+
+final class PacketWorkspace {
+
+    final int frameLength;
+    final BitBuffer received;
+    final BitBuffer deinterleaved;
+    final BitBuffer decoded;
+    final DecodingTally tally = new DecodingTally();
+
+    PacketWorkspace(int frameLength) {
+        this.frameLength = frameLength;
+        this.received = new BitBuffer(frameLength);
+        this.deinterleaved = new BitBuffer(frameLength);
+        this.decoded = new BitBuffer(frameLength);
+    }
+}
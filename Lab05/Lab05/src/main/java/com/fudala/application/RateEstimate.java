@@ -0,0 +1,48 @@
+package com.fudala.application;
+
+public record RateEstimate(double estimate, double standardError, double lower, double upper, long hits) {
+
+    private static final double Z_95 = 1.959963984540054;
+
+    public static RateEstimate fromWeightedSums(double sum, double sumOfSquares, long hits, long samples) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("samples must be positive");
+        }
+        var mean = sum / samples;
+        var variance = samples > 1
+                ? Math.max(0.0, (sumOfSquares - samples * mean * mean) / (samples - 1))
+                : 0.0;
+        var standardError = Math.sqrt(variance / samples);
+        var halfWidth = Z_95 * standardError;
+        return new RateEstimate(mean, standardError, Math.max(0.0, mean - halfWidth), mean + halfWidth, hits);
+    }
+
+    public static RateEstimate wilson(long hits, long trials) {
+        if (hits < 0 || trials < 0 || hits > trials) {
+            throw new IllegalArgumentException("hits must be between 0 and trials");
+        }
+        if (trials == 0) {
+            return new RateEstimate(0.0, Double.POSITIVE_INFINITY, 0.0, 1.0, 0);
+        }
+        var rate = (double) hits / trials;
+        var zSquared = Z_95 * Z_95;
+        var denominator = 1.0 + zSquared / trials;
+        var center = (rate + zSquared / (2.0 * trials)) / denominator;
+        var halfWidth = Z_95 / denominator * Math.sqrt(rate * (1.0 - rate) / trials + zSquared / (4.0 * trials * trials));
+        return new RateEstimate(
+                rate,
+                Math.sqrt(rate * (1.0 - rate) / trials),
+                hits == 0 ? 0.0 : Math.max(0.0, center - halfWidth),
+                hits == trials ? 1.0 : Math.min(1.0, center + halfWidth),
+                hits
+        );
+    }
+
+    public double relativeError() {
+        return estimate == 0.0 ? Double.POSITIVE_INFINITY : standardError / estimate;
+    }
+
+    public double relativeHalfWidth() {
+        return estimate == 0.0 ? Double.POSITIVE_INFINITY : (upper - lower) / (2.0 * estimate);
+    }
+}
@@ -0,0 +1,24 @@
+package com.fudala.application;
+
+import java.time.Duration;
+
+public record SimulationSnapshot(
+        TransmissionStatistics statistics,
+        Duration elapsed,
+        RateEstimate channelErrorRate,
+        RateEstimate detectedErrorRate,
+        RateEstimate undetectedErrorRate
+) {
+
+    public double progress(long targetPackets) {
+        if (targetPackets <= 0) {
+            throw new IllegalArgumentException("targetPackets must be positive");
+        }
+        return Math.min(1.0, (double) statistics.totalPackets() / targetPackets);
+    }
+
+    public double packetsPerSecond() {
+        var seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0.0 ? 0.0 : statistics.totalPackets() / seconds;
+    }
+}
@@ -0,0 +1,81 @@
+package com.fudala.application;
+
+import com.fudala.domain.DecodingStatus;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class StatisticsAccumulator {
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder channelErrors = new LongAdder();
+    private final LongAdder detectedErrors = new LongAdder();
+    private final LongAdder correctedErrors = new LongAdder();
+    private final LongAdder undetectedErrors = new LongAdder();
+    private final LongAdder falseAlarms = new LongAdder();
+    private final long startNanos = System.nanoTime();
+
+    public void record(boolean hasChannelError, DecodingStatus status) {
+        Objects.requireNonNull(status, "status must not be null");
+        var detected = status.errorDetected();
+        add(
+                1,
+                hasChannelError ? 1 : 0,
+                hasChannelError && detected ? 1 : 0,
+                status.errorCorrected() ? 1 : 0,
+                hasChannelError && !detected ? 1 : 0,
+                !hasChannelError && detected ? 1 : 0
+        );
+    }
+
+    public void add(TransmissionStatistics statistics) {
+        Objects.requireNonNull(statistics, "statistics must not be null");
+        add(
+                statistics.totalPackets(),
+                statistics.channelErrors(),
+                statistics.detectedErrors(),
+                statistics.correctedErrors(),
+                statistics.undetectedErrors(),
+                statistics.falseAlarms()
+        );
+    }
+
+    void add(
+            long packets,
+            long channelErrorCount,
+            long detectedErrorCount,
+            long correctedErrorCount,
+            long undetectedErrorCount,
+            long falseAlarmCount
+    ) {
+        // total is published first and read last, so a snapshot never sees more errors than packets
+        total.add(packets);
+        channelErrors.add(channelErrorCount);
+        detectedErrors.add(detectedErrorCount);
+        correctedErrors.add(correctedErrorCount);
+        undetectedErrors.add(undetectedErrorCount);
+        falseAlarms.add(falseAlarmCount);
+    }
+
+    public TransmissionStatistics statistics() {
+        var channel = channelErrors.sum();
+        var detected = detectedErrors.sum();
+        var corrected = correctedErrors.sum();
+        var undetected = undetectedErrors.sum();
+        var alarms = falseAlarms.sum();
+        var packets = total.sum();
+        return new TransmissionStatistics(packets, channel, detected, corrected, undetected, alarms);
+    }
+
+    public SimulationSnapshot snapshot() {
+        var statistics = statistics();
+        return new SimulationSnapshot(
+                statistics,
+                Duration.ofNanos(System.nanoTime() - startNanos),
+                RateEstimate.wilson(statistics.channelErrors(), statistics.totalPackets()),
+                RateEstimate.wilson(statistics.detectedErrors(), statistics.totalPackets()),
+                RateEstimate.wilson(statistics.undetectedErrors(), statistics.totalPackets())
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.fudala.application;
+
+import com.fudala.domain.DecodingStatus;
+
+final class StatisticsCounter {
+
+    private long total;
+    private long channelErrors;
+    private long detectedErrors;
+    private long correctedErrors;
+    private long undetectedErrors;
+    private long falseAlarms;
+
+    private long flushedTotal;
+    private long flushedChannelErrors;
+    private long flushedDetectedErrors;
+    private long flushedCorrectedErrors;
+    private long flushedUndetectedErrors;
+    private long flushedFalseAlarms;
+
+    void record(boolean hasChannelError, DecodingStatus status) {
+        total++;
+
+        if (hasChannelError) {
+            channelErrors++;
+            if (status.errorDetected()) {
+                detectedErrors++;
+            } else {
+                undetectedErrors++;
+            }
+        } else {
+            if (status.errorDetected()) {
+                falseAlarms++;
+            }
+        }
+        if (status.errorCorrected()) {
+            correctedErrors++;
+        }
+    }
+
+    void flushTo(StatisticsAccumulator accumulator) {
+        accumulator.add(
+                total - flushedTotal,
+                channelErrors - flushedChannelErrors,
+                detectedErrors - flushedDetectedErrors,
+                correctedErrors - flushedCorrectedErrors,
+                undetectedErrors - flushedUndetectedErrors,
+                falseAlarms - flushedFalseAlarms
+        );
+        flushedTotal = total;
+        flushedChannelErrors = channelErrors;
+        flushedDetectedErrors = detectedErrors;
+        flushedCorrectedErrors = correctedErrors;
+        flushedUndetectedErrors = undetectedErrors;
+        flushedFalseAlarms = falseAlarms;
+    }
+
+    TransmissionStatistics toStatistics() {
+        return new TransmissionStatistics(
+                total,
+                channelErrors,
+                detectedErrors,
+                correctedErrors,
+                undetectedErrors,
+                falseAlarms
+        );
+    }
+}
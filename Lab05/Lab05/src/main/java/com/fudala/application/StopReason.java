@@ -0,0 +1,7 @@
+package com.fudala.application;
+
+public enum StopReason {
+    CONVERGED,
+    PACKET_BUDGET_EXHAUSTED,
+    TIME_BUDGET_EXHAUSTED
+}
@@ -0,0 +1,41 @@
+package com.fudala.application;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+public record StoppingCriteria(
+        ConvergenceTarget target,
+        double relativePrecision,
+        long maxPackets,
+        Duration maxDuration
+) {
+
+    public StoppingCriteria {
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(maxDuration, "maxDuration must not be null");
+        if (!(relativePrecision > 0.0)) {
+            throw new IllegalArgumentException("relativePrecision must be positive");
+        }
+        if (maxPackets <= 0) {
+            throw new IllegalArgumentException("maxPackets must be positive");
+        }
+        if (maxDuration.isNegative() || maxDuration.isZero()) {
+            throw new IllegalArgumentException("maxDuration must be positive");
+        }
+    }
+
+    public Optional<StopReason> evaluate(SimulationSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        if (target.rate(snapshot).relativeHalfWidth() <= relativePrecision) {
+            return Optional.of(StopReason.CONVERGED);
+        }
+        if (snapshot.statistics().totalPackets() >= maxPackets) {
+            return Optional.of(StopReason.PACKET_BUDGET_EXHAUSTED);
+        }
+        if (snapshot.elapsed().compareTo(maxDuration) >= 0) {
+            return Optional.of(StopReason.TIME_BUDGET_EXHAUSTED);
+        }
+        return Optional.empty();
+    }
+}
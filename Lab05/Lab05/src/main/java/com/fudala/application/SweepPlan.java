@@ -0,0 +1,43 @@
+package com.fudala.application;
+
+import com.fudala.domain.ErrorControlCode;
+
+import java.util.List;
+import java.util.Objects;
+
+public record SweepPlan(
+        List<ErrorControlCode> codes,
+        List<Double> bitErrorProbabilities,
+        List<Integer> payloadLengths,
+        int packetsPerPoint,
+        long seed
+) {
+
+    public SweepPlan {
+        codes = List.copyOf(Objects.requireNonNull(codes, "codes must not be null"));
+        bitErrorProbabilities = List.copyOf(
+                Objects.requireNonNull(bitErrorProbabilities, "bitErrorProbabilities must not be null")
+        );
+        payloadLengths = List.copyOf(Objects.requireNonNull(payloadLengths, "payloadLengths must not be null"));
+        if (codes.isEmpty() || bitErrorProbabilities.isEmpty() || payloadLengths.isEmpty()) {
+            throw new IllegalArgumentException("Sweep needs at least one code, probability and payload length");
+        }
+        for (var probability : bitErrorProbabilities) {
+            if (!(probability >= 0.0 && probability <= 1.0)) {
+                throw new IllegalArgumentException("bitErrorProbability must be between 0.0 and 1.0");
+            }
+        }
+        for (var length : payloadLengths) {
+            if (length <= 0) {
+                throw new IllegalArgumentException("payloadLength must be positive");
+            }
+        }
+        if (packetsPerPoint <= 0) {
+            throw new IllegalArgumentException("packetsPerPoint must be positive");
+        }
+    }
+
+    public int pointCount() {
+        return codes.size() * bitErrorProbabilities.size() * payloadLengths.size();
+    }
+}
@@ -0,0 +1,20 @@
+package com.fudala.application;
+
+public record SweepPoint(
+        String codeName,
+        int payloadBits,
+        int frameBits,
+        double bitErrorProbability,
+        TransmissionStatistics statistics,
+        long residualBitErrors,
+        long frameErrors
+) {
+
+    public double bitErrorRate() {
+        return (double) residualBitErrors / ((double) statistics.totalPackets() * payloadBits);
+    }
+
+    public double frameErrorRate() {
+        return (double) frameErrors / statistics.totalPackets();
+    }
+}
@@ -1,15 +1,29 @@
 package com.fudala.application;
 
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.BitErrorChannel;
+import com.fudala.domain.ChannelModel;
 import com.fudala.domain.DecodingOutcome;
 import com.fudala.domain.ErrorControlCode;
+import com.fudala.domain.Interleaver;
 import com.fudala.domain.RandomBitErrorChannel;
 import com.fudala.domain.TransmissionResult;
 
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.stream.IntStream;
 
 public final class TransmissionSimulator {
 
     private static final int DEFAULT_TEST_PACKET_COUNT = 1000;
+    private static final int PACKETS_PER_BLOCK = 1 << 16;
+    private static final int FLUSH_INTERVAL = 1 << 12;
+    private static final int ADAPTIVE_BLOCK_PACKETS = 1 << 12;
+    private static final int MAX_ADAPTIVE_ROUND_BLOCKS = 1 << 8;
+
+    private final FramePool framePool = new FramePool();
 
     public TransmissionResult simulateSingle(
             ErrorControlCode code,
@@ -28,72 +42,487 @@ public final class TransmissionSimulator {
         return new TransmissionResult(dataBits, encoded, received, errorIntroduced, outcome);
     }
 
+    public TransmissionResult simulateSingle(
+            ErrorControlCode code,
+            Interleaver interleaver,
+            BitErrorChannel channel,
+            String dataBits
+    ) {
+        Objects.requireNonNull(code, "code must not be null");
+        Objects.requireNonNull(interleaver, "interleaver must not be null");
+        Objects.requireNonNull(channel, "channel must not be null");
+        requireBinary(dataBits, "dataBits");
+
+        var encoded = Frames.encode(code, BitBuffer.of(dataBits));
+        var frame = interleave(interleaver, encoded);
+        var received = new BitBuffer(frame.length());
+        received.copyFrom(frame);
+        channel.transmit(received);
+        interleaver.deinterleave(received);
+        var decoded = new BitBuffer(0);
+        var status = Frames.decode(code, received, decoded);
+        var outcome = new DecodingOutcome(decoded.toString(), status.errorDetected(), status.errorCorrected());
+
+        return new TransmissionResult(
+                dataBits,
+                encoded.toString(),
+                received.toString(),
+                !encoded.equals(received),
+                outcome
+        );
+    }
+
     public TransmissionStatistics runTest(
             ErrorControlCode code,
-            RandomBitErrorChannel channel,
+            BitErrorChannel channel,
+            String dataBits,
+            int packetCount
+    ) {
+        return runTest(code, Interleaver.none(), channel, dataBits, packetCount);
+    }
+
+    public TransmissionStatistics runTest(
+            ErrorControlCode code,
+            Interleaver interleaver,
+            BitErrorChannel channel,
             String dataBits,
             int packetCount
     ) {
         Objects.requireNonNull(code, "code must not be null");
+        Objects.requireNonNull(interleaver, "interleaver must not be null");
         Objects.requireNonNull(channel, "channel must not be null");
         requireBinary(dataBits, "dataBits");
-        if (packetCount <= 0) {
-            throw new IllegalArgumentException("packetCount must be positive");
-        }
+        requirePositive(packetCount);
 
-        var total = 0;
-        var channelErrors = 0;
-        var detectedErrors = 0;
-        var correctedErrors = 0;
-        var undetectedErrors = 0;
-        var falseAlarms = 0;
+        var encoded = Frames.encode(code, BitBuffer.of(dataBits));
+        var transmitted = interleave(interleaver, encoded);
+        return runPackets(code, interleaver, channel, encoded, transmitted, packetCount, new StatisticsAccumulator());
+    }
+
+    public TransmissionStatistics runDefaultTest(
+            ErrorControlCode code,
+            BitErrorChannel channel,
+            String dataBits
+    ) {
+        return runTest(code, channel, dataBits, DEFAULT_TEST_PACKET_COUNT);
+    }
 
-        for (var i = 0; i < packetCount; i++) {
-            var encoded = code.encode(dataBits);
-            var received = channel.transmit(encoded);
-            DecodingOutcome outcome = code.decode(received);
-            var hasChannelError = !encoded.equals(received);
+    public TransmissionStatistics runParallelTest(
+            ErrorControlCode code,
+            double bitErrorProbability,
+            String dataBits,
+            long packetCount,
+            long seed
+    ) {
+        return runParallelTest(
+                code,
+                bitErrorProbability,
+                dataBits,
+                packetCount,
+                seed,
+                Runtime.getRuntime().availableProcessors()
+        );
+    }
 
-            total++;
+    public TransmissionStatistics runParallelTest(
+            ErrorControlCode code,
+            double bitErrorProbability,
+            String dataBits,
+            long packetCount,
+            long seed,
+            int parallelism
+    ) {
+        requireProbability(bitErrorProbability);
+        return runParallelTest(
+                code,
+                ChannelModel.binarySymmetric(bitErrorProbability),
+                dataBits,
+                packetCount,
+                seed,
+                parallelism
+        );
+    }
+
+    public TransmissionStatistics runParallelTest(
+            ErrorControlCode code,
+            ChannelModel channelModel,
+            String dataBits,
+            long packetCount,
+            long seed,
+            int parallelism
+    ) {
+        return runParallelTest(code, Interleaver.none(), channelModel, dataBits, packetCount, seed, parallelism);
+    }
+
+    public TransmissionStatistics runParallelTest(
+            ErrorControlCode code,
+            Interleaver interleaver,
+            ChannelModel channelModel,
+            String dataBits,
+            long packetCount,
+            long seed,
+            int parallelism
+    ) {
+        return runParallelTest(
+                code,
+                interleaver,
+                channelModel,
+                dataBits,
+                packetCount,
+                seed,
+                parallelism,
+                new StatisticsAccumulator()
+        );
+    }
+
+    public TransmissionStatistics runParallelTest(
+            ErrorControlCode code,
+            Interleaver interleaver,
+            ChannelModel channelModel,
+            String dataBits,
+            long packetCount,
+            long seed,
+            int parallelism,
+            StatisticsAccumulator accumulator
+    ) {
+        Objects.requireNonNull(code, "code must not be null");
+        Objects.requireNonNull(interleaver, "interleaver must not be null");
+        Objects.requireNonNull(channelModel, "channelModel must not be null");
+        Objects.requireNonNull(accumulator, "accumulator must not be null");
+        requireBinary(dataBits, "dataBits");
+        requirePositive(packetCount);
+
+        var encoded = Frames.encode(code, BitBuffer.of(dataBits));
+        var transmitted = interleave(interleaver, encoded);
+        return runBlocks(
+                packetCount,
+                seed,
+                parallelism,
+                (random, packets) -> runPackets(
+                        code,
+                        interleaver,
+                        channelModel.open(random),
+                        encoded,
+                        transmitted,
+                        packets,
+                        accumulator
+                ),
+                TransmissionStatistics.empty(),
+                TransmissionStatistics::merge
+        );
+    }
+
+    public AdaptiveSimulationResult runUntilConverged(
+            ErrorControlCode code,
+            ChannelModel channelModel,
+            String dataBits,
+            StoppingCriteria criteria,
+            long seed,
+            int parallelism
+    ) {
+        return runUntilConverged(code, Interleaver.none(), channelModel, dataBits, criteria, seed, parallelism);
+    }
+
+    public AdaptiveSimulationResult runUntilConverged(
+            ErrorControlCode code,
+            Interleaver interleaver,
+            ChannelModel channelModel,
+            String dataBits,
+            StoppingCriteria criteria,
+            long seed,
+            int parallelism
+    ) {
+        Objects.requireNonNull(code, "code must not be null");
+        Objects.requireNonNull(interleaver, "interleaver must not be null");
+        Objects.requireNonNull(channelModel, "channelModel must not be null");
+        Objects.requireNonNull(criteria, "criteria must not be null");
+        requireBinary(dataBits, "dataBits");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
 
-            if (hasChannelError) {
-                channelErrors++;
-                if (outcome.errorDetected()) {
-                    detectedErrors++;
-                } else {
-                    undetectedErrors++;
+        var encoded = Frames.encode(code, BitBuffer.of(dataBits));
+        var transmitted = interleave(interleaver, encoded);
+        var accumulator = new StatisticsAccumulator();
+        var deadline = System.nanoTime() + criteria.maxDuration().toNanos();
+        var root = new SplittableRandom(seed);
+        var statistics = TransmissionStatistics.empty();
+        var roundBlocks = 1;
+        var packetsPerNano = 0.0;
+        try (var pool = new ForkJoinPool(parallelism)) {
+            while (true) {
+                var remaining = criteria.maxPackets() - statistics.totalPackets();
+                var roundPackets = Math.min(remaining, (long) roundBlocks * ADAPTIVE_BLOCK_PACKETS);
+                if (packetsPerNano > 0.0) {
+                    var affordable = (long) ((deadline - System.nanoTime()) * packetsPerNano);
+                    roundPackets = Math.min(roundPackets, Math.max(1L, affordable));
                 }
-            } else {
-                if (outcome.errorDetected()) {
-                    falseAlarms++;
+                var roundStart = System.nanoTime();
+                var round = runRound(
+                        pool,
+                        root,
+                        roundPackets,
+                        ADAPTIVE_BLOCK_PACKETS,
+                        (random, packets) -> runPackets(
+                                code,
+                                interleaver,
+                                channelModel.open(random),
+                                encoded,
+                                transmitted,
+                                packets,
+                                accumulator
+                        ),
+                        TransmissionStatistics.empty(),
+                        TransmissionStatistics::merge
+                );
+                packetsPerNano = (double) round.totalPackets() / Math.max(1L, System.nanoTime() - roundStart);
+                statistics = statistics.merge(round);
+
+                var snapshot = accumulator.snapshot();
+                var stopReason = criteria.evaluate(snapshot);
+                if (stopReason.isPresent()) {
+                    return new AdaptiveSimulationResult(statistics, snapshot, stopReason.get());
                 }
-            }
-            if (outcome.errorCorrected()) {
-                correctedErrors++;
+                roundBlocks = Math.min(roundBlocks * 2, MAX_ADAPTIVE_ROUND_BLOCKS);
             }
         }
+    }
 
-        return new TransmissionStatistics(
-                total,
-                channelErrors,
-                detectedErrors,
-                correctedErrors,
-                undetectedErrors,
-                falseAlarms
+    public ImportanceSamplingResult runImportanceSampling(
+            ErrorControlCode code,
+            double bitErrorProbability,
+            double biasedProbability,
+            String dataBits,
+            long packetCount,
+            long seed,
+            int parallelism
+    ) {
+        Objects.requireNonNull(code, "code must not be null");
+        requireProbability(bitErrorProbability);
+        if (!(biasedProbability > 0.0 && biasedProbability < 1.0)) {
+            throw new IllegalArgumentException("biasedProbability must be strictly between 0.0 and 1.0");
+        }
+        requireBinary(dataBits, "dataBits");
+        requirePositive(packetCount);
+
+        var encoded = Frames.encode(code, BitBuffer.of(dataBits));
+        var weights = likelihoodRatios(encoded.length(), bitErrorProbability, biasedProbability);
+        var channelModel = ChannelModel.binarySymmetric(biasedProbability);
+        var sums = runBlocks(
+                packetCount,
+                seed,
+                parallelism,
+                (random, packets) -> runWeightedPackets(code, channelModel.open(random), encoded, weights, packets),
+                new WeightedSums(),
+                WeightedSums::merge
+        );
+
+        return new ImportanceSamplingResult(
+                packetCount,
+                bitErrorProbability,
+                biasedProbability,
+                sums.channelErrors.estimate(packetCount),
+                sums.detectedErrors.estimate(packetCount),
+                sums.undetectedErrors.estimate(packetCount)
         );
     }
 
-    public TransmissionStatistics runDefaultTest(
+    private <T> T runBlocks(
+            long packetCount,
+            long seed,
+            int parallelism,
+            BlockRunner<T> runner,
+            T identity,
+            BinaryOperator<T> merge
+    ) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        try (var pool = new ForkJoinPool(parallelism)) {
+            return runRound(pool, new SplittableRandom(seed), packetCount, PACKETS_PER_BLOCK, runner, identity, merge);
+        }
+    }
+
+    private static <T> T runRound(
+            ForkJoinPool pool,
+            SplittableRandom root,
+            long packetCount,
+            int blockSize,
+            BlockRunner<T> runner,
+            T identity,
+            BinaryOperator<T> merge
+    ) {
+        var blockCount = Math.toIntExact((packetCount + blockSize - 1) / blockSize);
+        var generators = new SplittableRandom[blockCount];
+        for (var i = 0; i < blockCount; i++) {
+            generators[i] = root.split();
+        }
+
+        return pool.submit(() -> IntStream.range(0, blockCount)
+                .parallel()
+                .mapToObj(block -> runner.run(
+                        generators[block],
+                        (int) Math.min(blockSize, packetCount - (long) block * blockSize)
+                ))
+                .reduce(identity, merge)
+        ).join();
+    }
+
+    private WeightedSums runWeightedPackets(
             ErrorControlCode code,
-            RandomBitErrorChannel channel,
-            String dataBits
+            BitErrorChannel channel,
+            BitBuffer encoded,
+            double[] weights,
+            int packetCount
     ) {
-        return runTest(code, channel, dataBits, DEFAULT_TEST_PACKET_COUNT);
+        var workspace = framePool.acquire(encoded.length());
+        var received = workspace.received;
+        var sums = new WeightedSums();
+
+        try {
+            for (var i = 0; i < packetCount; i++) {
+                received.copyFrom(encoded);
+                var flipped = channel.transmit(received);
+                if (flipped != 0) {
+                    var weight = weights[flipped];
+                    sums.channelErrors.add(weight);
+                    if (Frames.decode(code, received, workspace.decoded, workspace.tally).errorDetected()) {
+                        sums.detectedErrors.add(weight);
+                    } else {
+                        sums.undetectedErrors.add(weight);
+                    }
+                }
+            }
+        } finally {
+            framePool.release(workspace);
+        }
+
+        return sums;
+    }
+
+    private static double[] likelihoodRatios(int length, double probability, double biasedProbability) {
+        var errorRatio = Math.log(probability / biasedProbability);
+        var successRatio = Math.log((1.0 - probability) / (1.0 - biasedProbability));
+        var weights = new double[length + 1];
+        for (var errors = 0; errors <= length; errors++) {
+            var errorTerm = errors == 0 ? 0.0 : errors * errorRatio;
+            var successTerm = errors == length ? 0.0 : (length - errors) * successRatio;
+            weights[errors] = Math.exp(errorTerm + successTerm);
+        }
+        return weights;
+    }
+
+    private TransmissionStatistics runPackets(
+            ErrorControlCode code,
+            Interleaver interleaver,
+            BitErrorChannel channel,
+            BitBuffer encoded,
+            BitBuffer transmitted,
+            int packetCount,
+            StatisticsAccumulator accumulator
+    ) {
+        var workspace = framePool.acquire(encoded.length());
+        var received = workspace.received;
+        var deinterleaved = workspace.deinterleaved;
+        var counter = new StatisticsCounter();
+
+        try {
+            for (var i = 0; i < packetCount; i++) {
+                received.copyFrom(transmitted);
+                var hasChannelError = channel.transmit(received) != 0;
+                var frame = received;
+                if (!hasChannelError) {
+                    frame = encoded;
+                } else if (transmitted != encoded) {
+                    received.xor(transmitted);
+                    deinterleaved.copyFrom(encoded);
+                    interleaver.deinterleaveErrors(received, deinterleaved);
+                    frame = deinterleaved;
+                }
+                counter.record(hasChannelError, Frames.decode(code, frame, workspace.decoded, workspace.tally));
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    counter.flushTo(accumulator);
+                }
+            }
+        } finally {
+            framePool.release(workspace);
+        }
+
+        counter.flushTo(accumulator);
+        return counter.toStatistics();
+    }
+
+    private BitBuffer interleave(Interleaver interleaver, BitBuffer encoded) {
+        if (interleaver == Interleaver.none()) {
+            return encoded;
+        }
+        var transmitted = new BitBuffer(encoded.length());
+        transmitted.copyFrom(encoded);
+        interleaver.interleave(transmitted);
+        return transmitted;
+    }
+
+    private void requirePositive(long packetCount) {
+        if (packetCount <= 0) {
+            throw new IllegalArgumentException("packetCount must be positive");
+        }
+    }
+
+    private void requireProbability(double bitErrorProbability) {
+        if (bitErrorProbability < 0.0 || bitErrorProbability > 1.0) {
+            throw new IllegalArgumentException("bitErrorProbability must be between 0.0 and 1.0");
+        }
     }
 
     private void requireBinary(String bits, @SuppressWarnings("SameParameterValue") String label) {
-        if (bits == null || bits.isEmpty() || !bits.matches("[01]+")) {
+        if (!BitBuffer.isBinary(bits)) {
             throw new IllegalArgumentException(label + " must be a non-empty binary string");
         }
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    private interface BlockRunner<T> {
+        T run(SplittableRandom random, int packetCount);
+    }
+
+    private static final class WeightedSum {
+        private double sum;
+        private double sumOfSquares;
+        private long hits;
+
+        private void add(double weight) {
+            sum += weight;
+            sumOfSquares += weight * weight;
+            hits++;
+        }
+
+        private void merge(WeightedSum other) {
+            sum += other.sum;
+            sumOfSquares += other.sumOfSquares;
+            hits += other.hits;
+        }
+
+        private RateEstimate estimate(long packets) {
+            return RateEstimate.fromWeightedSums(sum, sumOfSquares, hits, packets);
+        }
+    }
+
+    private static final class WeightedSums {
+        private final WeightedSum channelErrors = new WeightedSum();
+        private final WeightedSum detectedErrors = new WeightedSum();
+        private final WeightedSum undetectedErrors = new WeightedSum();
+
+        private WeightedSums merge(WeightedSums other) {
+            var merged = new WeightedSums();
+            merged.addAll(this);
+            merged.addAll(other);
+            return merged;
+        }
+
+        private void addAll(WeightedSums other) {
+            channelErrors.merge(other.channelErrors);
+            detectedErrors.merge(other.detectedErrors);
+            undetectedErrors.merge(other.undetectedErrors);
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package com.fudala.application;
 
 public record TransmissionStatistics(
-        int totalPackets,
-        int channelErrors,
-        int detectedErrors,
-        int correctedErrors,
-        int undetectedErrors,
-        int falseAlarms
+        long totalPackets,
+        long channelErrors,
+        long detectedErrors,
+        long correctedErrors,
+        long undetectedErrors,
+        long falseAlarms
 ) {
+
+    public static TransmissionStatistics empty() {
+        return new TransmissionStatistics(0, 0, 0, 0, 0, 0);
+    }
+
+    public TransmissionStatistics merge(TransmissionStatistics other) {
+        return new TransmissionStatistics(
+                Math.addExact(totalPackets, other.totalPackets),
+                Math.addExact(channelErrors, other.channelErrors),
+                Math.addExact(detectedErrors, other.detectedErrors),
+                Math.addExact(correctedErrors, other.correctedErrors),
+                Math.addExact(undetectedErrors, other.undetectedErrors),
+                Math.addExact(falseAlarms, other.falseAlarms)
+        );
+    }
 }
@@ -0,0 +1,123 @@
+package com.fudala.application;
+
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.BitErrorChannel;
+import com.fudala.domain.ChannelModel;
+import com.fudala.domain.DecodingStatus;
+import com.fudala.domain.ErrorControlCode;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+public final class TransmissionSweep {
+
+    public void run(SweepPlan plan, int parallelism, Consumer<SweepPoint> listener) {
+        Objects.requireNonNull(plan, "plan must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+
+        var root = new SplittableRandom(plan.seed());
+        var payloadRandom = root.split();
+        var tasks = new ArrayList<Callable<SweepPoint>>(plan.pointCount());
+        for (var code : plan.codes()) {
+            for (var payloadLength : plan.payloadLengths()) {
+                var frame = EncodedFrame.of(code, randomPayload(payloadRandom, payloadLength));
+                for (var probability : plan.bitErrorProbabilities()) {
+                    var random = root.split();
+                    tasks.add(() -> runPoint(
+                            frame,
+                            probability,
+                            ChannelModel.binarySymmetric(probability).open(random),
+                            plan.packetsPerPoint()
+                    ));
+                }
+            }
+        }
+
+        var executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            var completion = new ExecutorCompletionService<SweepPoint>(executor);
+            tasks.forEach(completion::submit);
+            for (var completed = 0; completed < tasks.size(); completed++) {
+                listener.accept(completion.take().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sweep interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Sweep point failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static SweepPoint runPoint(
+            EncodedFrame frame,
+            double probability,
+            BitErrorChannel channel,
+            int packetCount
+    ) {
+        var payloadBits = frame.data.length();
+        var workspace = new PacketWorkspace(frame.encoded.length());
+        var received = workspace.received;
+        var decoded = workspace.decoded;
+        var counter = new StatisticsCounter();
+        var residualBitErrors = 0L;
+        var frameErrors = 0L;
+
+        for (var i = 0; i < packetCount; i++) {
+            received.copyFrom(frame.encoded);
+            if (channel.transmit(received) == 0) {
+                counter.record(false, frame.cleanStatus);
+                continue;
+            }
+            var status = Frames.decode(frame.code, received, decoded, workspace.tally);
+            counter.record(true, status);
+            decoded.setLength(payloadBits);
+            var bitErrors = decoded.distance(frame.data);
+            residualBitErrors += bitErrors;
+            if (bitErrors != 0 || (status.errorDetected() && !status.errorCorrected())) {
+                frameErrors++;
+            }
+        }
+
+        return new SweepPoint(
+                frame.code.name(),
+                payloadBits,
+                frame.encoded.length(),
+                probability,
+                counter.toStatistics(),
+                residualBitErrors,
+                frameErrors
+        );
+    }
+
+    private static BitBuffer randomPayload(SplittableRandom random, int length) {
+        var payload = new BitBuffer(length);
+        for (var from = 0; from < length; from += Long.SIZE) {
+            var count = Math.min(Long.SIZE, length - from);
+            payload.setBits(from, count, random.nextLong() >>> (Long.SIZE - count));
+        }
+        return payload;
+    }
+
+    private record EncodedFrame(ErrorControlCode code, BitBuffer data, BitBuffer encoded, DecodingStatus cleanStatus) {
+
+        private static EncodedFrame of(ErrorControlCode code, BitBuffer data) {
+            var encoded = Frames.encode(code, data);
+            var cleanStatus = Frames.decode(code, encoded, new BitBuffer(0));
+            return new EncodedFrame(code, data, encoded, cleanStatus);
+        }
+    }
+}
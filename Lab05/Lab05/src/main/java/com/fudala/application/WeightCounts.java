@@ -0,0 +1,17 @@
+package com.fudala.application;
+
+public record WeightCounts(int weight, long patterns, long detected, long corrected, long undetected) {
+
+    public WeightCounts merge(WeightCounts other) {
+        if (other.weight != weight) {
+            throw new IllegalArgumentException("Cannot merge counts of different weights");
+        }
+        return new WeightCounts(
+                weight,
+                patterns + other.patterns,
+                detected + other.detected,
+                corrected + other.corrected,
+                undetected + other.undetected
+        );
+    }
+}
@@ -0,0 +1,363 @@
+package com.fudala.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.Objects;
+
+public final class BitBuffer {
+
+    private static final int WORD_BITS = Long.SIZE;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = WORD_BITS - 1;
+
+    private long[] words;
+    private int length;
+
+    public BitBuffer(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative");
+        }
+        this.words = new long[wordCount(length)];
+        this.length = length;
+    }
+
+    public static BitBuffer of(String bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        var buffer = new BitBuffer(bits.length());
+        for (var i = 0; i < bits.length(); i++) {
+            var c = bits.charAt(i);
+            if (c == '1') {
+                buffer.words[i >>> WORD_SHIFT] |= Long.MIN_VALUE >>> (i & WORD_MASK);
+            } else if (c != '0') {
+                throw new IllegalArgumentException("bits must be a binary string");
+            }
+        }
+        return buffer;
+    }
+
+    public static BitBuffer ofLong(long value, int length) {
+        requireWordCount(length);
+        var buffer = new BitBuffer(length);
+        buffer.setBits(0, length, value);
+        return buffer;
+    }
+
+    public static BitBuffer fromBytes(byte[] bytes, int length) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        if (length < 0 || length > bytes.length * Byte.SIZE) {
+            throw new IllegalArgumentException("length must fit in the given bytes");
+        }
+        var buffer = new BitBuffer(length);
+        for (var i = 0; i < wordCount(length) * Long.BYTES && i < bytes.length; i++) {
+            buffer.words[i >>> 3] |= (bytes[i] & 0xFFL) << (56 - ((i & 7) << 3));
+        }
+        buffer.clearTail();
+        return buffer;
+    }
+
+    public static BitBuffer fromBitSet(BitSet bitSet, int length) {
+        Objects.requireNonNull(bitSet, "bitSet must not be null");
+        var buffer = new BitBuffer(length);
+        for (var i = bitSet.nextSetBit(0); i >= 0 && i < length; i = bitSet.nextSetBit(i + 1)) {
+            buffer.words[i >>> WORD_SHIFT] |= Long.MIN_VALUE >>> (i & WORD_MASK);
+        }
+        return buffer;
+    }
+
+    public static boolean isBinary(CharSequence bits) {
+        if (bits == null || bits.isEmpty()) {
+            return false;
+        }
+        for (var i = 0; i < bits.length(); i++) {
+            var c = bits.charAt(i);
+            if (c != '0' && c != '1') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int capacity() {
+        return words.length * WORD_BITS;
+    }
+
+    public void setLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative");
+        }
+        if (length > capacity()) {
+            var grown = new long[Math.max(wordCount(length), words.length * 2)];
+            System.arraycopy(words, 0, grown, 0, words.length);
+            words = grown;
+        }
+        var previous = this.length;
+        this.length = length;
+        if (length < previous) {
+            clearTail();
+            for (var i = wordCount(length); i < wordCount(previous); i++) {
+                words[i] = 0L;
+            }
+        }
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words[index >>> WORD_SHIFT] & (Long.MIN_VALUE >>> (index & WORD_MASK))) != 0;
+    }
+
+    public void set(int index, boolean value) {
+        checkIndex(index);
+        var mask = Long.MIN_VALUE >>> (index & WORD_MASK);
+        if (value) {
+            words[index >>> WORD_SHIFT] |= mask;
+        } else {
+            words[index >>> WORD_SHIFT] &= ~mask;
+        }
+    }
+
+    public void flip(int index) {
+        checkIndex(index);
+        words[index >>> WORD_SHIFT] ^= Long.MIN_VALUE >>> (index & WORD_MASK);
+    }
+
+    public long getBits(int from, int count) {
+        requireWordCount(count);
+        checkRange(from, count);
+        if (count == 0) {
+            return 0L;
+        }
+        var word = from >>> WORD_SHIFT;
+        var offset = from & WORD_MASK;
+        var aligned = words[word] << offset;
+        if (offset + count > WORD_BITS) {
+            aligned |= words[word + 1] >>> (WORD_BITS - offset);
+        }
+        return aligned >>> (WORD_BITS - count);
+    }
+
+    public void setBits(int from, int count, long value) {
+        requireWordCount(count);
+        checkRange(from, count);
+        if (count == 0) {
+            return;
+        }
+        var word = from >>> WORD_SHIFT;
+        var offset = from & WORD_MASK;
+        var mask = -1L << (WORD_BITS - count);
+        var aligned = value << (WORD_BITS - count);
+        words[word] = (words[word] & ~(mask >>> offset)) | (aligned >>> offset);
+        if (offset + count > WORD_BITS) {
+            var shift = WORD_BITS - offset;
+            words[word + 1] = (words[word + 1] & ~(mask << shift)) | (aligned << shift);
+        }
+    }
+
+    public void xorBits(int from, int count, long value) {
+        requireWordCount(count);
+        checkRange(from, count);
+        if (count == 0) {
+            return;
+        }
+        var word = from >>> WORD_SHIFT;
+        var offset = from & WORD_MASK;
+        var aligned = value << (WORD_BITS - count);
+        words[word] ^= aligned >>> offset;
+        if (offset + count > WORD_BITS) {
+            words[word + 1] ^= aligned << (WORD_BITS - offset);
+        }
+    }
+
+    public void copyFrom(BitBuffer source) {
+        Objects.requireNonNull(source, "source must not be null");
+        if (source == this) {
+            return;
+        }
+        setLength(source.length);
+        System.arraycopy(source.words, 0, words, 0, wordCount(source.length));
+    }
+
+    public void copyFrom(BitBuffer source, int sourceFrom, int targetFrom, int count) {
+        Objects.requireNonNull(source, "source must not be null");
+        source.checkRange(sourceFrom, count);
+        checkRange(targetFrom, count);
+        if (source == this && sourceFrom < targetFrom) {
+            var remaining = count;
+            while (remaining > 0) {
+                var chunk = Math.min(WORD_BITS, remaining);
+                remaining -= chunk;
+                setBits(targetFrom + remaining, chunk, source.getBits(sourceFrom + remaining, chunk));
+            }
+            return;
+        }
+        for (var done = 0; done < count; done += WORD_BITS) {
+            var chunk = Math.min(WORD_BITS, count - done);
+            setBits(targetFrom + done, chunk, source.getBits(sourceFrom + done, chunk));
+        }
+    }
+
+    public void clear() {
+        for (var i = 0; i < wordCount(length); i++) {
+            words[i] = 0L;
+        }
+    }
+
+    public int cardinality() {
+        var count = 0;
+        for (var i = 0; i < wordCount(length); i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    public void xor(BitBuffer other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (other.length != length) {
+            throw new IllegalArgumentException("Buffers must have the same length");
+        }
+        for (var i = 0; i < wordCount(length); i++) {
+            words[i] ^= other.words[i];
+        }
+    }
+
+    public int distance(BitBuffer other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (other.length != length) {
+            throw new IllegalArgumentException("Buffers must have the same length");
+        }
+        var count = 0;
+        for (var i = 0; i < wordCount(length); i++) {
+            count += Long.bitCount(words[i] ^ other.words[i]);
+        }
+        return count;
+    }
+
+    public byte[] toByteArray() {
+        var bytes = new byte[(length + Byte.SIZE - 1) / Byte.SIZE];
+        for (var i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> (56 - ((i & 7) << 3)));
+        }
+        return bytes;
+    }
+
+    public void writeTo(ByteBuffer target) {
+        Objects.requireNonNull(target, "target must not be null");
+        var byteCount = (length + Byte.SIZE - 1) / Byte.SIZE;
+        var fullWords = byteCount / Long.BYTES;
+        var bigEndian = target.order() == ByteOrder.BIG_ENDIAN;
+        for (var i = 0; i < fullWords; i++) {
+            target.putLong(bigEndian ? words[i] : Long.reverseBytes(words[i]));
+        }
+        for (var i = fullWords * Long.BYTES; i < byteCount; i++) {
+            target.put((byte) (words[i >>> 3] >>> (56 - ((i & 7) << 3))));
+        }
+    }
+
+    public void readFrom(ByteBuffer source, int length) {
+        Objects.requireNonNull(source, "source must not be null");
+        var byteCount = (length + Byte.SIZE - 1) / Byte.SIZE;
+        if (length < 0 || byteCount > source.remaining()) {
+            throw new IllegalArgumentException("length must fit in the remaining bytes");
+        }
+        setLength(length);
+        var fullWords = byteCount / Long.BYTES;
+        var bigEndian = source.order() == ByteOrder.BIG_ENDIAN;
+        for (var i = 0; i < fullWords; i++) {
+            var word = source.getLong();
+            words[i] = bigEndian ? word : Long.reverseBytes(word);
+        }
+        if (fullWords < wordCount(length)) {
+            words[fullWords] = 0L;
+        }
+        for (var i = fullWords * Long.BYTES; i < byteCount; i++) {
+            words[i >>> 3] |= (source.get() & 0xFFL) << (56 - ((i & 7) << 3));
+        }
+        clearTail();
+    }
+
+    public BitSet toBitSet() {
+        var bitSet = new BitSet(length);
+        for (var i = 0; i < wordCount(length); i++) {
+            var word = words[i];
+            while (word != 0) {
+                var offset = Long.numberOfLeadingZeros(word);
+                bitSet.set((i << WORD_SHIFT) + offset);
+                word &= ~(Long.MIN_VALUE >>> offset);
+            }
+        }
+        return bitSet;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BitBuffer other) || other.length != length) {
+            return false;
+        }
+        for (var i = 0; i < wordCount(length); i++) {
+            if (words[i] != other.words[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        var result = Integer.hashCode(length);
+        for (var i = 0; i < wordCount(length); i++) {
+            result = 31 * result + Long.hashCode(words[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        var chars = new char[length];
+        for (var i = 0; i < length; i++) {
+            chars[i] = (words[i >>> WORD_SHIFT] & (Long.MIN_VALUE >>> (i & WORD_MASK))) != 0 ? '1' : '0';
+        }
+        return new String(chars);
+    }
+
+    private void clearTail() {
+        var offset = length & WORD_MASK;
+        if (offset != 0) {
+            words[length >>> WORD_SHIFT] &= -1L << (WORD_BITS - offset);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Bit index " + index + " out of bounds for length " + length);
+        }
+    }
+
+    private void checkRange(int from, int count) {
+        if (from < 0 || count < 0 || from > length - count) {
+            throw new IndexOutOfBoundsException(
+                    "Bit range [" + from + ", " + from + "+" + count + ") out of bounds for length " + length
+            );
+        }
+    }
+
+    private static void requireWordCount(int count) {
+        if (count < 0 || count > WORD_BITS) {
+            throw new IllegalArgumentException("count must be between 0 and " + WORD_BITS);
+        }
+    }
+
+    private static int wordCount(int length) {
+        return (length + WORD_MASK) >>> WORD_SHIFT;
+    }
+}
@@ -0,0 +1,5 @@
+package com.fudala.domain;
+
+public interface BitErrorChannel {
+    int transmit(BitBuffer bits);
+}
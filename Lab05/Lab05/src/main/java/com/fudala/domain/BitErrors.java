@@ -0,0 +1,37 @@
+package com.fudala.domain;
+
+import java.util.random.RandomGenerator;
+
+final class BitErrors {
+
+    private BitErrors() {
+    }
+
+    static void requireProbability(double probability, String label) {
+        if (!(probability >= 0.0 && probability <= 1.0)) {
+            throw new IllegalArgumentException(label + " must be between 0.0 and 1.0");
+        }
+    }
+
+    static int flipGeometric(BitBuffer bits, int from, int to, double probability, RandomGenerator random) {
+        if (probability == 0.0) {
+            return 0;
+        }
+        var logComplement = Math.log1p(-probability);
+        var flipped = 0;
+        for (var position = from + nextGap(random, logComplement); position < to;
+             position += 1 + nextGap(random, logComplement)) {
+            bits.flip((int) position);
+            flipped++;
+        }
+        return flipped;
+    }
+
+    static long nextGap(RandomGenerator random, double logComplement) {
+        if (logComplement == 0.0) {
+            return Integer.MAX_VALUE;
+        }
+        var gap = Math.log(1.0 - random.nextDouble()) / logComplement;
+        return (long) Math.min(gap, Integer.MAX_VALUE);
+    }
+}
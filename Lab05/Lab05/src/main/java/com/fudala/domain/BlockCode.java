@@ -0,0 +1,57 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+
+public sealed interface BlockCode extends ErrorControlCode permits HammingBlockCode, ReedSolomonCode {
+    int dataLength();
+
+    int codewordLength();
+
+    void encodeBlock(BitBuffer data, int dataOffset, int dataCount, BitBuffer target, int targetOffset);
+
+    DecodingStatus decodeBlock(BitBuffer received, int offset, BitBuffer data, int dataOffset);
+
+    default int blockCount(int payloadLength) {
+        if (payloadLength <= 0) {
+            throw new IllegalArgumentException("payloadLength must be positive");
+        }
+        return (payloadLength + dataLength() - 1) / dataLength();
+    }
+
+    default int encodeBlocks(BitBuffer payload, BitBuffer target) {
+        Objects.requireNonNull(payload, "payload must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        var k = dataLength();
+        var n = codewordLength();
+        var blocks = blockCount(payload.length());
+        target.setLength(Math.multiplyExact(blocks, n));
+        for (var block = 0; block < blocks; block++) {
+            var dataOffset = block * k;
+            encodeBlock(payload, dataOffset, Math.min(k, payload.length() - dataOffset), target, block * n);
+        }
+        return blocks;
+    }
+
+    default BlockDecodingSummary decodeBlocks(BitBuffer received, BitBuffer data) {
+        var tally = new DecodingTally();
+        decodeBlocks(received, data, tally);
+        return tally.toSummary();
+    }
+
+    default void decodeBlocks(BitBuffer received, BitBuffer data, DecodingTally tally) {
+        Objects.requireNonNull(received, "received must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(tally, "tally must not be null");
+        var k = dataLength();
+        var n = codewordLength();
+        if (received.length() == 0 || received.length() % n != 0) {
+            throw new IllegalArgumentException(name() + " expects a whole number of " + n + "-bit code words");
+        }
+        var blocks = received.length() / n;
+        data.setLength(blocks * k);
+        tally.reset();
+        for (var block = 0; block < blocks; block++) {
+            tally.record(decodeBlock(received, block * n, data, block * k));
+        }
+    }
+}
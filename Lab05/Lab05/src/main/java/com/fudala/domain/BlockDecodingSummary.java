@@ -0,0 +1,11 @@
+package com.fudala.domain;
+
+public record BlockDecodingSummary(int blocks, int detectedBlocks, int correctedBlocks) {
+
+    public DecodingStatus status() {
+        if (detectedBlocks > correctedBlocks) {
+            return DecodingStatus.ERROR_DETECTED;
+        }
+        return correctedBlocks > 0 ? DecodingStatus.ERROR_CORRECTED : DecodingStatus.NO_ERROR;
+    }
+}
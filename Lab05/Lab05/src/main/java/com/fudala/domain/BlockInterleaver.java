@@ -0,0 +1,80 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class BlockInterleaver implements Interleaver {
+
+    private final int rows;
+    private final int columns;
+    private final ConcurrentMap<Integer, Permutation> permutations = new ConcurrentHashMap<>();
+    private volatile Permutation recent;
+
+    public BlockInterleaver(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("rows and columns must be positive");
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("rows * columns must not exceed " + Integer.MAX_VALUE);
+        }
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    @Override
+    public String name() {
+        return "Block(" + rows + "x" + columns + ")";
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    @Override
+    public void interleave(BitBuffer bits) {
+        permutation(bits).apply(bits);
+    }
+
+    @Override
+    public void deinterleave(BitBuffer bits) {
+        permutation(bits).applyInverse(bits);
+    }
+
+    @Override
+    public void deinterleaveErrors(BitBuffer errors, BitBuffer target) {
+        permutation(errors).flipInverse(errors, target);
+    }
+
+    private Permutation permutation(BitBuffer bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        var cached = recent;
+        if (cached == null || cached.length() != bits.length()) {
+            cached = permutations.computeIfAbsent(bits.length(), this::buildPermutation);
+            recent = cached;
+        }
+        return cached;
+    }
+
+    private Permutation buildPermutation(int length) {
+        var mapping = new int[length];
+        var blockSize = rows * columns;
+        for (var blockStart = 0; blockStart < length; blockStart += blockSize) {
+            var blockLength = Math.min(blockSize, length - blockStart);
+            var next = blockStart;
+            for (var column = 0; column < columns; column++) {
+                for (var row = 0; row < rows; row++) {
+                    var index = row * columns + column;
+                    if (index < blockLength) {
+                        mapping[blockStart + index] = next++;
+                    }
+                }
+            }
+        }
+        return Permutation.of(mapping);
+    }
+}
@@ -0,0 +1,42 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+public record BurstErrorChannel(
+        double burstProbability,
+        int burstLength,
+        RandomGenerator random
+) implements BitErrorChannel {
+
+    public BurstErrorChannel {
+        BitErrors.requireProbability(burstProbability, "burstProbability");
+        if (burstLength <= 0) {
+            throw new IllegalArgumentException("burstLength must be positive");
+        }
+        Objects.requireNonNull(random, "random must not be null");
+    }
+
+    @Override
+    public int transmit(BitBuffer bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        if (burstProbability == 0.0) {
+            return 0;
+        }
+        var logComplement = Math.log1p(-burstProbability);
+        var length = bits.length();
+        var flipped = 0;
+        for (var position = BitErrors.nextGap(random, logComplement); position < length;
+             position += BitErrors.nextGap(random, logComplement)) {
+            var start = (int) position;
+            var end = Math.min(length, start + burstLength);
+            for (var from = start; from < end; from += Long.SIZE) {
+                var count = Math.min(Long.SIZE, end - from);
+                bits.xorBits(from, count, -1L);
+            }
+            flipped += end - start;
+            position = end;
+        }
+        return flipped;
+    }
+}
@@ -0,0 +1,35 @@
+package com.fudala.domain;
+
+import java.util.random.RandomGenerator;
+
+@FunctionalInterface
+public interface ChannelModel {
+    BitErrorChannel open(RandomGenerator random);
+
+    static ChannelModel binarySymmetric(double bitErrorProbability) {
+        return random -> new RandomBitErrorChannel(bitErrorProbability, random, ErrorInjection.GEOMETRIC_SKIP);
+    }
+
+    static ChannelModel gilbertElliott(
+            double goodToBadProbability,
+            double badToGoodProbability,
+            double goodErrorProbability,
+            double badErrorProbability
+    ) {
+        return random -> new GilbertElliottChannel(
+                goodToBadProbability,
+                badToGoodProbability,
+                goodErrorProbability,
+                badErrorProbability,
+                random
+        );
+    }
+
+    static ChannelModel burst(double burstProbability, int burstLength) {
+        return random -> new BurstErrorChannel(burstProbability, burstLength, random);
+    }
+
+    static ChannelModel erasure(double erasureProbability) {
+        return random -> new ErasureChannel(erasureProbability, random);
+    }
+}
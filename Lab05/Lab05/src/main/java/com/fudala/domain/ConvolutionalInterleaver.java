@@ -0,0 +1,83 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tail-biting form of a convolutional interleaver. Branch {@code index % branches} is delayed by
+ * {@code branch * delay} of its own symbols, and the delay wraps around inside the frame instead of
+ * carrying over into the next one. Each frame is therefore a standalone cyclic permutation: the simulator
+ * decodes frames independently, so there is no state between frames to keep. Bits past the last whole
+ * group of {@code branches} stay in place.
+ */
+public final class ConvolutionalInterleaver implements Interleaver {
+
+    private final int branches;
+    private final int delay;
+    private final ConcurrentMap<Integer, Permutation> permutations = new ConcurrentHashMap<>();
+    private volatile Permutation recent;
+
+    public ConvolutionalInterleaver(int branches, int delay) {
+        if (branches <= 0) {
+            throw new IllegalArgumentException("branches must be positive");
+        }
+        if (delay < 0) {
+            throw new IllegalArgumentException("delay must not be negative");
+        }
+        this.branches = branches;
+        this.delay = delay;
+    }
+
+    @Override
+    public String name() {
+        return "Convolutional(" + branches + "," + delay + ")";
+    }
+
+    public int branches() {
+        return branches;
+    }
+
+    public int delay() {
+        return delay;
+    }
+
+    @Override
+    public void interleave(BitBuffer bits) {
+        permutation(bits).apply(bits);
+    }
+
+    @Override
+    public void deinterleave(BitBuffer bits) {
+        permutation(bits).applyInverse(bits);
+    }
+
+    @Override
+    public void deinterleaveErrors(BitBuffer errors, BitBuffer target) {
+        permutation(errors).flipInverse(errors, target);
+    }
+
+    private Permutation permutation(BitBuffer bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        var cached = recent;
+        if (cached == null || cached.length() != bits.length()) {
+            cached = permutations.computeIfAbsent(bits.length(), this::buildPermutation);
+            recent = cached;
+        }
+        return cached;
+    }
+
+    private Permutation buildPermutation(int length) {
+        var mapping = new int[length];
+        var span = length - length % branches;
+        for (var index = 0; index < length; index++) {
+            if (index < span) {
+                var shift = (long) (index % branches) * delay * branches;
+                mapping[index] = (int) ((index + shift) % span);
+            } else {
+                mapping[index] = index;
+            }
+        }
+        return Permutation.of(mapping);
+    }
+}
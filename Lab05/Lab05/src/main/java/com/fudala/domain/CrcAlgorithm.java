@@ -0,0 +1,19 @@
+package com.fudala.domain;
+
+public enum CrcAlgorithm {
+    BITWISE(0),
+    TABLE(1),
+    SLICE_BY_4(4),
+    SLICE_BY_8(8),
+    INTRINSIC(8);
+
+    private final int tableCount;
+
+    CrcAlgorithm(int tableCount) {
+        this.tableCount = tableCount;
+    }
+
+    public int tableCount() {
+        return tableCount;
+    }
+}
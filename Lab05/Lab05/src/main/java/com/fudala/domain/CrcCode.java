@@ -4,108 +4,126 @@ import java.util.Objects;
 
 public final class CrcCode implements ErrorControlCode {
 
-    private static final String BINARY_PATTERN = "[01]+";
     private static final String DEFAULT_POLYNOMIAL = "100000111";
+    private static final int MAX_DEGREE = CrcParameters.MAX_WIDTH;
+    private static final CrcAlgorithm DEFAULT_ALGORITHM = CrcAlgorithm.SLICE_BY_8;
 
     private final String polynomial;
     private final int degree;
+    private final CrcEngine engine;
+    private final String name;
 
     public CrcCode() {
         this(DEFAULT_POLYNOMIAL);
     }
 
     public CrcCode(String polynomial) {
-        this.polynomial = validatePolynomial(polynomial);
-        this.degree = this.polynomial.length() - 1;
+        this(toParameters(validatePolynomial(polynomial)), DEFAULT_ALGORITHM);
+    }
+
+    public CrcCode(CrcParameters parameters) {
+        this(parameters, CrcEngine.supportsIntrinsic(parameters) ? CrcAlgorithm.INTRINSIC : DEFAULT_ALGORITHM);
+    }
+
+    public CrcCode(CrcParameters parameters, CrcAlgorithm algorithm) {
+        this.engine = CrcEngine.of(parameters, algorithm);
+        this.polynomial = parameters.polynomialBits();
+        this.degree = parameters.width();
+        this.name = "CRC-" + degree + "[" + polynomial + "]";
     }
 
     @Override
     public String name() {
-        return "CRC-8[" + polynomial + "]";
+        return name;
+    }
+
+    public CrcParameters parameters() {
+        return engine.parameters();
+    }
+
+    public CrcEngine engine() {
+        return engine;
     }
 
     @Override
     public String encode(String dataBits) {
         requireDataBits(dataBits);
-        var crc = calculateCrc(dataBits);
-        return dataBits + crc;
+        var frame = new BitBuffer(encodedLength(dataBits.length()));
+        encode(BitBuffer.of(dataBits), frame);
+        return frame.toString();
     }
 
     @Override
     public DecodingOutcome decode(String receivedBits) {
         requireFrame(receivedBits);
-        var valid = verify(receivedBits);
-        var data = receivedBits.substring(0, receivedBits.length() - degree);
-        var detected = !valid;
-        return new DecodingOutcome(data, detected, false);
-    }
-
-    private String calculateCrc(String data) {
-        var r = degree;
-        var padded = (data + "0".repeat(r)).toCharArray();
-        var poly = polynomial.toCharArray();
-
-        for (var i = 0; i < data.length(); i++) {
-            if (padded[i] == '1') {
-                for (var j = 0; j < poly.length; j++) {
-                    padded[i + j] = xorBit(padded[i + j], poly[j]);
-                }
-            }
-        }
+        var data = new BitBuffer(receivedBits.length() - degree);
+        var status = decode(BitBuffer.of(receivedBits), data);
+        return new DecodingOutcome(data.toString(), status.errorDetected(), status.errorCorrected());
+    }
 
-        var crc = new StringBuilder(r);
-        for (var i = padded.length - r; i < padded.length; i++) {
-            crc.append(padded[i]);
+    @Override
+    public int encodedLength(int dataLength) {
+        if (dataLength <= 0) {
+            throw new IllegalArgumentException("Data must be a non-empty binary string");
         }
-        return crc.toString();
+        return dataLength + degree;
     }
 
-    private boolean verify(String frame) {
-        var r = degree;
-        var padded = frame.toCharArray();
-        var poly = polynomial.toCharArray();
-        var dataLength = frame.length() - r;
-
-        for (var i = 0; i < dataLength; i++) {
-            if (padded[i] == '1') {
-                for (var j = 0; j < poly.length; j++) {
-                    padded[i + j] = xorBit(padded[i + j], poly[j]);
-                }
-            }
-        }
+    @Override
+    public void encode(BitBuffer data, BitBuffer target) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        var dataLength = data.length();
+        var frameLength = encodedLength(dataLength);
+        var crc = engine.checksum(data, 0, dataLength);
+        target.copyFrom(data);
+        target.setLength(frameLength);
+        target.setBits(dataLength, degree, crc);
+    }
 
-        for (var i = padded.length - r; i < padded.length; i++) {
-            if (padded[i] != '0') {
-                return false;
-            }
+    @Override
+    public DecodingStatus decode(BitBuffer received, BitBuffer data) {
+        Objects.requireNonNull(received, "received must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        if (received.length() <= degree) {
+            throw new IllegalArgumentException("Frame must be a binary string longer than polynomial degree");
         }
-        return true;
+        var dataLength = received.length() - degree;
+        var valid = engine.checksum(received, 0, dataLength) == received.getBits(dataLength, degree);
+        data.copyFrom(received);
+        data.setLength(dataLength);
+        return valid ? DecodingStatus.NO_ERROR : DecodingStatus.ERROR_DETECTED;
     }
 
-    private char xorBit(char a, char b) {
-        return a == b ? '0' : '1';
+    private static CrcParameters toParameters(String polynomial) {
+        var degree = polynomial.length() - 1;
+        var generator = Long.parseUnsignedLong(polynomial.substring(1), 2);
+        return CrcParameters.ofPolynomial("CRC-" + degree, degree, generator);
     }
 
-    private String validatePolynomial(String polynomial) {
+    private static String validatePolynomial(String polynomial) {
         Objects.requireNonNull(polynomial, "polynomial must not be null");
-        if (polynomial.length() < 2 || !polynomial.matches(BINARY_PATTERN)) {
+        if (polynomial.length() < 2 || !BitBuffer.isBinary(polynomial)) {
             throw new IllegalArgumentException("Polynomial must be a binary string of length at least 2");
         }
         if (polynomial.charAt(0) != '1' || polynomial.charAt(polynomial.length() - 1) != '1') {
             throw new IllegalArgumentException("Polynomial must start and end with 1");
         }
+        if (polynomial.length() - 1 > MAX_DEGREE) {
+            throw new IllegalArgumentException("Polynomial degree must not exceed " + MAX_DEGREE);
+        }
         return polynomial;
     }
 
     private void requireDataBits(String dataBits) {
-        if (dataBits == null || dataBits.isEmpty() || !dataBits.matches(BINARY_PATTERN)) {
+        if (!BitBuffer.isBinary(dataBits)) {
             throw new IllegalArgumentException("Data must be a non-empty binary string");
         }
     }
 
     private void requireFrame(String frame) {
-        if (frame == null || frame.length() <= degree || !frame.matches(BINARY_PATTERN)) {
+        if (frame == null || frame.length() <= degree || !BitBuffer.isBinary(frame)) {
             throw new IllegalArgumentException("Frame must be a binary string longer than polynomial degree");
         }
     }
-}
\ No newline at end of file
+}
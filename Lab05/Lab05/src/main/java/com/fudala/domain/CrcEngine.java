@@ -0,0 +1,361 @@
+package com.fudala.domain;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+public final class CrcEngine {
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_VIEW =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final int TABLE_SIZE = 256;
+    private static final ConcurrentMap<EngineKey, CrcEngine> ENGINES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<TableKey, long[]> TABLES = new ConcurrentHashMap<>();
+
+    private final CrcParameters parameters;
+    private final CrcAlgorithm algorithm;
+    private final long polynomial;
+    private final int registerShift;
+    private final long[] table;
+    private final Supplier<Checksum> intrinsic;
+    private final ThreadLocal<IntrinsicScratch> scratch;
+
+    public CrcEngine(CrcParameters parameters, CrcAlgorithm algorithm) {
+        this.parameters = Objects.requireNonNull(parameters, "parameters must not be null");
+        this.algorithm = Objects.requireNonNull(algorithm, "algorithm must not be null");
+        this.intrinsic = algorithm == CrcAlgorithm.INTRINSIC ? intrinsicFactory(parameters) : null;
+        if (algorithm == CrcAlgorithm.INTRINSIC && intrinsic == null) {
+            throw new IllegalArgumentException(parameters.name() + " has no intrinsic implementation");
+        }
+        this.scratch = intrinsic == null ? null : ThreadLocal.withInitial(() -> new IntrinsicScratch(intrinsic.get()));
+        this.registerShift = Long.SIZE - parameters.width();
+        this.polynomial = parameters.polynomial() << registerShift;
+        this.table = TABLES.computeIfAbsent(
+                new TableKey(polynomial, algorithm.tableCount()),
+                key -> buildTable(key.polynomial(), key.tableCount())
+        );
+    }
+
+    public static CrcEngine of(CrcParameters parameters, CrcAlgorithm algorithm) {
+        Objects.requireNonNull(parameters, "parameters must not be null");
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return ENGINES.computeIfAbsent(
+                new EngineKey(parameters, algorithm),
+                key -> new CrcEngine(key.parameters(), key.algorithm())
+        );
+    }
+
+    public static boolean supportsIntrinsic(CrcParameters parameters) {
+        Objects.requireNonNull(parameters, "parameters must not be null");
+        return intrinsicFactory(parameters) != null;
+    }
+
+    public CrcParameters parameters() {
+        return parameters;
+    }
+
+    public CrcAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    public int width() {
+        return parameters.width();
+    }
+
+    public long initialRegister() {
+        return parameters.init() << registerShift;
+    }
+
+    public long finish(long register) {
+        var value = register >>> registerShift;
+        if (parameters.reflectOut()) {
+            value = Long.reverse(value) >>> registerShift;
+        }
+        return (value ^ parameters.xorOut()) & parameters.mask();
+    }
+
+    long registerOf(long checksum) {
+        var value = (checksum ^ parameters.xorOut()) & parameters.mask();
+        if (parameters.reflectOut()) {
+            value = Long.reverse(value) >>> registerShift;
+        }
+        return value << registerShift;
+    }
+
+    Checksum newIntrinsicChecksum() {
+        return intrinsic == null ? null : intrinsic.get();
+    }
+
+    public CrcState newState() {
+        return new CrcState(this);
+    }
+
+    public long checksum(byte[] data) {
+        Objects.requireNonNull(data, "data must not be null");
+        if (intrinsic != null) {
+            return scratch.get().checksum(data);
+        }
+        return finish(update(initialRegister(), data, 0, data.length));
+    }
+
+    public long checksum(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        if (intrinsic != null) {
+            return scratch.get().checksum(buffer);
+        }
+        return finish(update(initialRegister(), buffer));
+    }
+
+    public long checksum(BitBuffer bits, int from, int length) {
+        if (intrinsic != null && length % Byte.SIZE == 0) {
+            Objects.requireNonNull(bits, "bits must not be null");
+            Objects.checkFromIndexSize(from, length, bits.length());
+            return scratch.get().checksum(bits, from, length);
+        }
+        return finish(update(initialRegister(), bits, from, length));
+    }
+
+    public long update(long register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        var reflect = parameters.reflectIn();
+        var position = offset;
+        var end = offset + length;
+
+        switch (algorithm) {
+            case SLICE_BY_8, INTRINSIC -> {
+                for (; end - position >= Long.BYTES; position += Long.BYTES) {
+                    var word = (long) LONG_VIEW.get(data, position);
+                    register = sliceBy8(register ^ (reflect ? reflectBytes(word) : word));
+                }
+            }
+            case SLICE_BY_4 -> {
+                for (; end - position >= Integer.BYTES; position += Integer.BYTES) {
+                    var word = (int) INT_VIEW.get(data, position);
+                    if (reflect) {
+                        word = Integer.reverseBytes(Integer.reverse(word));
+                    }
+                    register = sliceBy4(register ^ ((long) word << Integer.SIZE));
+                }
+            }
+            default -> {
+            }
+        }
+        for (; position < end; position++) {
+            var value = data[position] & 0xFF;
+            register = updateByte(register, reflect ? reflectByte(value) : value);
+        }
+        return register;
+    }
+
+    public long update(long register, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        var position = buffer.position();
+        var limit = buffer.limit();
+        if (buffer.hasArray()) {
+            register = update(register, buffer.array(), buffer.arrayOffset() + position, limit - position);
+            buffer.position(limit);
+            return register;
+        }
+        var bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        var reflect = parameters.reflectIn();
+        for (; limit - position >= Long.BYTES; position += Long.BYTES) {
+            var word = buffer.getLong(position);
+            register = updateWord(register, bigEndian ? word : Long.reverseBytes(word));
+        }
+        for (; position < limit; position++) {
+            var value = buffer.get(position) & 0xFF;
+            register = updateByte(register, reflect ? reflectByte(value) : value);
+        }
+        buffer.position(limit);
+        return register;
+    }
+
+    public long update(long register, BitBuffer bits, int from, int length) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        Objects.checkFromIndexSize(from, length, bits.length());
+        var position = from;
+        var end = from + length;
+        for (; end - position >= Long.SIZE; position += Long.SIZE) {
+            register = updateWord(register, bits.getBits(position, Long.SIZE));
+        }
+        return updateBits(register, bits.getBits(position, end - position), end - position);
+    }
+
+    public long updateBits(long register, long bits, int count) {
+        if (count < 0 || count > Long.SIZE) {
+            throw new IllegalArgumentException("count must be between 0 and " + Long.SIZE);
+        }
+        if (count == Long.SIZE) {
+            return updateWord(register, bits);
+        }
+        var reflect = parameters.reflectIn();
+        var remaining = count;
+        for (; remaining >= Byte.SIZE; remaining -= Byte.SIZE) {
+            var value = (int) (bits >>> (remaining - Byte.SIZE)) & 0xFF;
+            register = updateByte(register, reflect ? reflectByte(value) : value);
+        }
+        for (; remaining > 0; remaining--) {
+            register = updateBit(register, (int) (bits >>> (remaining - 1)) & 1);
+        }
+        return register;
+    }
+
+    private long updateWord(long register, long word) {
+        var value = parameters.reflectIn() ? reflectBytes(word) : word;
+        return switch (algorithm) {
+            case SLICE_BY_8, INTRINSIC -> sliceBy8(register ^ value);
+            case SLICE_BY_4 -> sliceBy4(sliceBy4(register ^ value));
+            case TABLE -> {
+                for (var shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                    register = updateByte(register, (int) (value >>> shift) & 0xFF);
+                }
+                yield register;
+            }
+            case BITWISE -> {
+                for (var shift = Long.SIZE - 1; shift >= 0; shift--) {
+                    register = updateBit(register, (int) (value >>> shift) & 1);
+                }
+                yield register;
+            }
+        };
+    }
+
+    private long updateByte(long register, int value) {
+        if (algorithm == CrcAlgorithm.BITWISE) {
+            for (var shift = Byte.SIZE - 1; shift >= 0; shift--) {
+                register = updateBit(register, (value >>> shift) & 1);
+            }
+            return register;
+        }
+        return (register << Byte.SIZE) ^ table[(int) (register >>> 56) ^ value];
+    }
+
+    private long updateBit(long register, int bit) {
+        var feedback = (register ^ ((long) bit << 63)) < 0;
+        register <<= 1;
+        return feedback ? register ^ polynomial : register;
+    }
+
+    private long sliceBy8(long register) {
+        return table[7 * TABLE_SIZE + (int) (register >>> 56)]
+                ^ table[6 * TABLE_SIZE + ((int) (register >>> 48) & 0xFF)]
+                ^ table[5 * TABLE_SIZE + ((int) (register >>> 40) & 0xFF)]
+                ^ table[4 * TABLE_SIZE + ((int) (register >>> 32) & 0xFF)]
+                ^ table[3 * TABLE_SIZE + ((int) (register >>> 24) & 0xFF)]
+                ^ table[2 * TABLE_SIZE + ((int) (register >>> 16) & 0xFF)]
+                ^ table[TABLE_SIZE + ((int) (register >>> 8) & 0xFF)]
+                ^ table[(int) register & 0xFF];
+    }
+
+    private long sliceBy4(long register) {
+        return (register << Integer.SIZE)
+                ^ table[3 * TABLE_SIZE + (int) (register >>> 56)]
+                ^ table[2 * TABLE_SIZE + ((int) (register >>> 48) & 0xFF)]
+                ^ table[TABLE_SIZE + ((int) (register >>> 40) & 0xFF)]
+                ^ table[(int) (register >>> 32) & 0xFF];
+    }
+
+    private static long[] buildTable(long polynomial, int tableCount) {
+        var table = new long[tableCount * TABLE_SIZE];
+        if (tableCount == 0) {
+            return table;
+        }
+        for (var value = 0; value < TABLE_SIZE; value++) {
+            var register = (long) value << 56;
+            for (var bit = 0; bit < Byte.SIZE; bit++) {
+                register = register < 0 ? (register << 1) ^ polynomial : register << 1;
+            }
+            table[value] = register;
+        }
+        for (var slice = 1; slice < tableCount; slice++) {
+            for (var value = 0; value < TABLE_SIZE; value++) {
+                var previous = table[(slice - 1) * TABLE_SIZE + value];
+                table[slice * TABLE_SIZE + value] = (previous << Byte.SIZE) ^ table[(int) (previous >>> 56)];
+            }
+        }
+        return table;
+    }
+
+    private static Supplier<Checksum> intrinsicFactory(CrcParameters parameters) {
+        if (sameAlgorithm(parameters, CrcParameters.CRC_32)) {
+            return CRC32::new;
+        }
+        if (sameAlgorithm(parameters, CrcParameters.CRC_32C)) {
+            return CRC32C::new;
+        }
+        return null;
+    }
+
+    private static boolean sameAlgorithm(CrcParameters parameters, CrcParameters profile) {
+        return parameters.width() == profile.width()
+                && parameters.polynomial() == profile.polynomial()
+                && parameters.init() == profile.init()
+                && parameters.reflectIn() == profile.reflectIn()
+                && parameters.reflectOut() == profile.reflectOut()
+                && parameters.xorOut() == profile.xorOut();
+    }
+
+    private static int reflectByte(int value) {
+        return Integer.reverse(value) >>> 24;
+    }
+
+    private static long reflectBytes(long word) {
+        return Long.reverseBytes(Long.reverse(word));
+    }
+
+    private static final class IntrinsicScratch {
+        private final Checksum checksum;
+        private ByteBuffer bytes = ByteBuffer.allocate(0);
+
+        private IntrinsicScratch(Checksum checksum) {
+            this.checksum = checksum;
+        }
+
+        private long checksum(byte[] data) {
+            checksum.reset();
+            checksum.update(data, 0, data.length);
+            return checksum.getValue();
+        }
+
+        private long checksum(ByteBuffer buffer) {
+            checksum.reset();
+            checksum.update(buffer);
+            return checksum.getValue();
+        }
+
+        private long checksum(BitBuffer bits, int from, int length) {
+            var byteCount = length / Byte.SIZE;
+            if (bytes.capacity() < byteCount) {
+                bytes = ByteBuffer.allocate(Math.max(byteCount, 2 * bytes.capacity()));
+            }
+            bytes.clear();
+            var position = from;
+            var end = from + length;
+            for (; end - position >= Long.SIZE; position += Long.SIZE) {
+                bytes.putLong(bits.getBits(position, Long.SIZE));
+            }
+            for (; position < end; position += Byte.SIZE) {
+                bytes.put((byte) bits.getBits(position, Byte.SIZE));
+            }
+            checksum.reset();
+            checksum.update(bytes.array(), 0, byteCount);
+            return checksum.getValue();
+        }
+    }
+
+    private record EngineKey(CrcParameters parameters, CrcAlgorithm algorithm) {
+    }
+
+    private record TableKey(long polynomial, int tableCount) {
+    }
+}
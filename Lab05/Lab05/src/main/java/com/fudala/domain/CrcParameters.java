@@ -0,0 +1,57 @@
+package com.fudala.domain;
+
+public record CrcParameters(
+        String name,
+        int width,
+        long polynomial,
+        long init,
+        boolean reflectIn,
+        boolean reflectOut,
+        long xorOut
+) {
+
+    public static final int MAX_WIDTH = Long.SIZE;
+
+    public static final CrcParameters CRC_8 =
+            new CrcParameters("CRC-8", 8, 0x07L, 0x00L, false, false, 0x00L);
+    public static final CrcParameters CRC_16_ARC =
+            new CrcParameters("CRC-16/ARC", 16, 0x8005L, 0x0000L, true, true, 0x0000L);
+    public static final CrcParameters CRC_16_CCITT_FALSE =
+            new CrcParameters("CRC-16/CCITT-FALSE", 16, 0x1021L, 0xFFFFL, false, false, 0x0000L);
+    public static final CrcParameters CRC_32 =
+            new CrcParameters("CRC-32", 32, 0x04C11DB7L, 0xFFFFFFFFL, true, true, 0xFFFFFFFFL);
+    public static final CrcParameters CRC_32C =
+            new CrcParameters("CRC-32C", 32, 0x1EDC6F41L, 0xFFFFFFFFL, true, true, 0xFFFFFFFFL);
+    public static final CrcParameters CRC_64_ECMA_182 =
+            new CrcParameters("CRC-64/ECMA-182", 64, 0x42F0E1EBA9EA3693L, 0L, false, false, 0L);
+
+    public CrcParameters {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name must not be blank");
+        }
+        if (width < 1 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("width must be between 1 and " + MAX_WIDTH);
+        }
+        var mask = mask(width);
+        if ((polynomial & ~mask) != 0 || (init & ~mask) != 0 || (xorOut & ~mask) != 0) {
+            throw new IllegalArgumentException("polynomial, init and xorOut must fit in " + width + " bits");
+        }
+    }
+
+    public static CrcParameters ofPolynomial(String name, int width, long polynomial) {
+        return new CrcParameters(name, width, polynomial, 0L, false, false, 0L);
+    }
+
+    public long mask() {
+        return mask(width);
+    }
+
+    public String polynomialBits() {
+        var bits = Long.toBinaryString(polynomial);
+        return "1" + "0".repeat(width - bits.length()) + bits;
+    }
+
+    private static long mask(int width) {
+        return width == MAX_WIDTH ? -1L : (1L << width) - 1;
+    }
+}
@@ -0,0 +1,96 @@
+package com.fudala.domain;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.zip.Checksum;
+
+public final class CrcState implements Checksum {
+
+    private final CrcEngine engine;
+    private final Checksum intrinsic;
+    private boolean delegating;
+    private long register;
+    private long bitCount;
+
+    public CrcState(CrcEngine engine) {
+        this.engine = Objects.requireNonNull(engine, "engine must not be null");
+        this.intrinsic = engine.newIntrinsicChecksum();
+        this.delegating = intrinsic != null;
+        this.register = engine.initialRegister();
+    }
+
+    public CrcEngine engine() {
+        return engine;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    @Override
+    public void update(int b) {
+        if (delegating) {
+            intrinsic.update(b);
+        } else {
+            register = engine.updateBits(register, b & 0xFF, Byte.SIZE);
+        }
+        bitCount += Byte.SIZE;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        Objects.requireNonNull(b, "b must not be null");
+        if (delegating) {
+            intrinsic.update(b, off, len);
+        } else {
+            register = engine.update(register, b, off, len);
+        }
+        bitCount += (long) len * Byte.SIZE;
+    }
+
+    @Override
+    public void update(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        var remaining = buffer.remaining();
+        if (delegating) {
+            intrinsic.update(buffer);
+        } else {
+            register = engine.update(register, buffer);
+        }
+        bitCount += (long) remaining * Byte.SIZE;
+    }
+
+    public void update(BitBuffer bits, int from, int length) {
+        leaveIntrinsic();
+        register = engine.update(register, bits, from, length);
+        bitCount += length;
+    }
+
+    public void updateBits(long bits, int count) {
+        leaveIntrinsic();
+        register = engine.updateBits(register, bits, count);
+        bitCount += count;
+    }
+
+    @Override
+    public long getValue() {
+        return delegating ? intrinsic.getValue() : engine.finish(register);
+    }
+
+    @Override
+    public void reset() {
+        if (intrinsic != null) {
+            intrinsic.reset();
+            delegating = true;
+        }
+        register = engine.initialRegister();
+        bitCount = 0;
+    }
+
+    private void leaveIntrinsic() {
+        if (delegating) {
+            register = engine.registerOf(intrinsic.getValue());
+            delegating = false;
+        }
+    }
+}
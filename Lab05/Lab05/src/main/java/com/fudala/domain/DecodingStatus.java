@@ -0,0 +1,23 @@
+package com.fudala.domain;
+
+public enum DecodingStatus {
+    NO_ERROR(false, false),
+    ERROR_DETECTED(true, false),
+    ERROR_CORRECTED(true, true);
+
+    private final boolean errorDetected;
+    private final boolean errorCorrected;
+
+    DecodingStatus(boolean errorDetected, boolean errorCorrected) {
+        this.errorDetected = errorDetected;
+        this.errorCorrected = errorCorrected;
+    }
+
+    public boolean errorDetected() {
+        return errorDetected;
+    }
+
+    public boolean errorCorrected() {
+        return errorCorrected;
+    }
+}
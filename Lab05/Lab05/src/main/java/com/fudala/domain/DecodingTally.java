@@ -0,0 +1,47 @@
+package com.fudala.domain;
+
+public final class DecodingTally {
+
+    private int blocks;
+    private int detectedBlocks;
+    private int correctedBlocks;
+
+    public void reset() {
+        blocks = 0;
+        detectedBlocks = 0;
+        correctedBlocks = 0;
+    }
+
+    public void record(DecodingStatus status) {
+        blocks++;
+        if (status.errorDetected()) {
+            detectedBlocks++;
+        }
+        if (status.errorCorrected()) {
+            correctedBlocks++;
+        }
+    }
+
+    public int blocks() {
+        return blocks;
+    }
+
+    public int detectedBlocks() {
+        return detectedBlocks;
+    }
+
+    public int correctedBlocks() {
+        return correctedBlocks;
+    }
+
+    public DecodingStatus status() {
+        if (detectedBlocks > correctedBlocks) {
+            return DecodingStatus.ERROR_DETECTED;
+        }
+        return correctedBlocks > 0 ? DecodingStatus.ERROR_CORRECTED : DecodingStatus.NO_ERROR;
+    }
+
+    public BlockDecodingSummary toSummary() {
+        return new BlockDecodingSummary(blocks, detectedBlocks, correctedBlocks);
+    }
+}
@@ -0,0 +1,48 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+public record ErasureChannel(double erasureProbability, RandomGenerator random) implements BitErrorChannel {
+
+    public ErasureChannel {
+        BitErrors.requireProbability(erasureProbability, "erasureProbability");
+        Objects.requireNonNull(random, "random must not be null");
+    }
+
+    @Override
+    public int transmit(BitBuffer bits) {
+        return erase(bits, null);
+    }
+
+    public int transmit(BitBuffer bits, BitBuffer erasures) {
+        Objects.requireNonNull(erasures, "erasures must not be null");
+        return erase(bits, erasures);
+    }
+
+    private int erase(BitBuffer bits, BitBuffer erasures) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        var length = bits.length();
+        if (erasures != null) {
+            erasures.setLength(length);
+            erasures.clear();
+        }
+        if (erasureProbability == 0.0) {
+            return 0;
+        }
+        var logComplement = Math.log1p(-erasureProbability);
+        var flipped = 0;
+        for (var position = BitErrors.nextGap(random, logComplement); position < length;
+             position += 1 + BitErrors.nextGap(random, logComplement)) {
+            var index = (int) position;
+            if (erasures != null) {
+                erasures.set(index, true);
+            }
+            if (random.nextBoolean() != bits.get(index)) {
+                bits.flip(index);
+                flipped++;
+            }
+        }
+        return flipped;
+    }
+}
@@ -1,7 +1,10 @@
 package com.fudala.domain;
 
-public sealed interface ErrorControlCode permits HammingCode, CrcCode {
+public sealed interface ErrorControlCode permits BlockCode, CrcCode {
     String name();
     String encode(String dataBits);
     DecodingOutcome decode(String receivedBits);
+    int encodedLength(int dataLength);
+    void encode(BitBuffer data, BitBuffer target);
+    DecodingStatus decode(BitBuffer received, BitBuffer data);
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.fudala.domain;
+
+public enum ErrorInjection {
+    PER_BIT,
+    GEOMETRIC_SKIP
+}
@@ -0,0 +1,14 @@
+package com.fudala.domain;
+
+public final class ExtendedHammingCode extends HammingBlockCode {
+
+    private static final int DEFAULT_PARITY_BITS = 3;
+
+    public ExtendedHammingCode() {
+        this(DEFAULT_PARITY_BITS);
+    }
+
+    public ExtendedHammingCode(int parityBits) {
+        super(parityBits, true, "SECDED");
+    }
+}
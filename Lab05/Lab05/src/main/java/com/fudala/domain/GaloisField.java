@@ -0,0 +1,53 @@
+package com.fudala.domain;
+
+final class GaloisField {
+
+    static final int SIZE = 1 << Byte.SIZE;
+    static final int ORDER = SIZE - 1;
+
+    private static final int PRIMITIVE_POLYNOMIAL = 0x11D;
+    private static final int[] EXP = new int[2 * ORDER];
+    private static final int[] LOG = new int[SIZE];
+
+    static {
+        var value = 1;
+        for (var power = 0; power < ORDER; power++) {
+            EXP[power] = value;
+            EXP[power + ORDER] = value;
+            LOG[value] = power;
+            value <<= 1;
+            if (value >= SIZE) {
+                value ^= PRIMITIVE_POLYNOMIAL;
+            }
+        }
+    }
+
+    private GaloisField() {
+    }
+
+    static int exp(int power) {
+        return EXP[Math.floorMod(power, ORDER)];
+    }
+
+    static int log(int value) {
+        if (value <= 0 || value >= SIZE) {
+            throw new IllegalArgumentException("value must be between 1 and " + ORDER);
+        }
+        return LOG[value];
+    }
+
+    static int multiply(int a, int b) {
+        return a == 0 || b == 0 ? 0 : EXP[LOG[a] + LOG[b]];
+    }
+
+    static int multiplyByPower(int value, int power) {
+        return value == 0 ? 0 : EXP[LOG[value] + power];
+    }
+
+    static int divide(int a, int b) {
+        if (b == 0) {
+            throw new ArithmeticException("Division by zero in GF(" + SIZE + ")");
+        }
+        return a == 0 ? 0 : EXP[LOG[a] + ORDER - LOG[b]];
+    }
+}
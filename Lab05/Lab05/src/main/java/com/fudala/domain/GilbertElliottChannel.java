@@ -0,0 +1,70 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+public final class GilbertElliottChannel implements BitErrorChannel {
+
+    private final double goodErrorProbability;
+    private final double badErrorProbability;
+    private final double goodStayLog;
+    private final double badStayLog;
+    private final RandomGenerator random;
+    private boolean bad;
+    private long remainingInState;
+
+    public GilbertElliottChannel(
+            double goodToBadProbability,
+            double badToGoodProbability,
+            double goodErrorProbability,
+            double badErrorProbability,
+            RandomGenerator random
+    ) {
+        BitErrors.requireProbability(goodToBadProbability, "goodToBadProbability");
+        BitErrors.requireProbability(badToGoodProbability, "badToGoodProbability");
+        BitErrors.requireProbability(goodErrorProbability, "goodErrorProbability");
+        BitErrors.requireProbability(badErrorProbability, "badErrorProbability");
+        this.random = Objects.requireNonNull(random, "random must not be null");
+        this.goodErrorProbability = goodErrorProbability;
+        this.badErrorProbability = badErrorProbability;
+        this.goodStayLog = Math.log1p(-goodToBadProbability);
+        this.badStayLog = Math.log1p(-badToGoodProbability);
+
+        var transitions = goodToBadProbability + badToGoodProbability;
+        var badShare = transitions == 0.0 ? 0.0 : goodToBadProbability / transitions;
+        this.bad = random.nextDouble() < badShare;
+        this.remainingInState = nextSojourn();
+    }
+
+    public boolean inBadState() {
+        return bad;
+    }
+
+    @Override
+    public int transmit(BitBuffer bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        var flipped = 0;
+        var position = 0;
+        var length = bits.length();
+        while (position < length) {
+            var segment = (int) Math.min(remainingInState, length - position);
+            var errorProbability = bad ? badErrorProbability : goodErrorProbability;
+            flipped += BitErrors.flipGeometric(bits, position, position + segment, errorProbability, random);
+            position += segment;
+            remainingInState -= segment;
+            if (remainingInState == 0) {
+                bad = !bad;
+                remainingInState = nextSojourn();
+            }
+        }
+        return flipped;
+    }
+
+    private long nextSojourn() {
+        var stayLog = bad ? badStayLog : goodStayLog;
+        if (stayLog == 0.0) {
+            return Long.MAX_VALUE;
+        }
+        return 1 + BitErrors.nextGap(random, stayLog);
+    }
+}
@@ -0,0 +1,69 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+
+public final class HammingBatchDecoder {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final boolean VECTOR_AVAILABLE = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+
+    private final HammingBatchLayout layout;
+    private final HammingBatchKernel kernel;
+
+    private HammingBatchDecoder(HammingBatchLayout layout, HammingBatchKernel kernel) {
+        this.layout = layout;
+        this.kernel = kernel;
+    }
+
+    public static HammingBatchDecoder of(BlockCode code) {
+        var layout = layout(code);
+        return new HammingBatchDecoder(layout, VECTOR_AVAILABLE ? vectorKernel(layout) : new ScalarHammingKernel(layout));
+    }
+
+    public static HammingBatchDecoder scalar(BlockCode code) {
+        var layout = layout(code);
+        return new HammingBatchDecoder(layout, new ScalarHammingKernel(layout));
+    }
+
+    public static boolean vectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    public boolean vectorized() {
+        return kernel.vectorized();
+    }
+
+    public int codewordLength() {
+        return layout.codewordLength;
+    }
+
+    public BlockDecodingSummary decode(long[] codewords, long[] data, int count) {
+        Objects.requireNonNull(codewords, "codewords must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.checkFromIndexSize(0, count, codewords.length);
+        Objects.checkFromIndexSize(0, count, data.length);
+        var counts = kernel.decode(codewords, data, 0, count);
+        return new BlockDecodingSummary(count, (int) (counts >>> Integer.SIZE), (int) counts);
+    }
+
+    private static HammingBatchLayout layout(BlockCode code) {
+        Objects.requireNonNull(code, "code must not be null");
+        var layout = switch (code) {
+            case HammingCode hamming -> new HammingBatchLayout(hamming.parityBits(), false);
+            case ExtendedHammingCode extended -> new HammingBatchLayout(extended.parityBits(), true);
+            case ReedSolomonCode _ -> throw new IllegalArgumentException(code.name() + " is not a Hamming code");
+        };
+        if (layout.codewordLength > Long.SIZE) {
+            throw new IllegalArgumentException(code.name() + " code words do not fit in " + Long.SIZE + " bits");
+        }
+        return layout;
+    }
+
+    private static HammingBatchKernel vectorKernel(HammingBatchLayout layout) {
+        try {
+            return new VectorHammingKernel(layout);
+        } catch (LinkageError _) {
+            return new ScalarHammingKernel(layout);
+        }
+    }
+}
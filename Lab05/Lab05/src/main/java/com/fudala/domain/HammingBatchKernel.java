@@ -0,0 +1,7 @@
+package com.fudala.domain;
+
+sealed interface HammingBatchKernel permits ScalarHammingKernel, VectorHammingKernel {
+    boolean vectorized();
+
+    long decode(long[] codewords, long[] data, int from, int to);
+}
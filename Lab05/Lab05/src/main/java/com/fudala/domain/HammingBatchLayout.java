@@ -0,0 +1,48 @@
+package com.fudala.domain;
+
+final class HammingBatchLayout {
+
+    final int parityBits;
+    final boolean extended;
+    final int codewordLength;
+    final long[] syndromeMasks;
+    final int[] segmentShifts;
+    final int[] segmentLengths;
+
+    HammingBatchLayout(int parityBits, boolean extended) {
+        this.parityBits = parityBits;
+        this.extended = extended;
+        var hammingLength = (1 << parityBits) - 1;
+        this.codewordLength = extended ? hammingLength + 1 : hammingLength;
+
+        this.syndromeMasks = new long[parityBits];
+        for (var index = 0; index < hammingLength; index++) {
+            for (var bit = 0; bit < parityBits; bit++) {
+                if (((index + 1) >>> bit & 1) != 0) {
+                    syndromeMasks[bit] |= 1L << (codewordLength - 1 - index);
+                }
+            }
+        }
+
+        this.segmentShifts = new int[parityBits - 1];
+        this.segmentLengths = new int[parityBits - 1];
+        for (var bit = 1; bit < parityBits; bit++) {
+            var lastIndex = (1 << (bit + 1)) - 2;
+            segmentShifts[bit - 1] = codewordLength - 1 - lastIndex;
+            segmentLengths[bit - 1] = (1 << bit) - 1;
+        }
+    }
+
+    long flipMask(int syndrome) {
+        return 1L << (codewordLength - syndrome);
+    }
+
+    long extractData(long codeword) {
+        var data = 0L;
+        for (var segment = 0; segment < segmentShifts.length; segment++) {
+            var length = segmentLengths[segment];
+            data = (data << length) | ((codeword >>> segmentShifts[segment]) & ((1L << length) - 1));
+        }
+        return data;
+    }
+}
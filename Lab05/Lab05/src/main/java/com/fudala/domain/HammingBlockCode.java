@@ -0,0 +1,108 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+
+abstract sealed class HammingBlockCode implements BlockCode permits HammingCode, ExtendedHammingCode {
+
+    private final HammingTables tables;
+    private final String name;
+
+    HammingBlockCode(int parityBits, boolean extended, String family) {
+        this.tables = HammingTables.of(parityBits, extended);
+        this.name = family + "(" + tables.codewordLength() + "," + tables.dataLength() + ")";
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    public int parityBits() {
+        return tables.parityBits();
+    }
+
+    @Override
+    public int dataLength() {
+        return tables.dataLength();
+    }
+
+    @Override
+    public int codewordLength() {
+        return tables.codewordLength();
+    }
+
+    @Override
+    public String encode(String dataBits) {
+        requireDataBits(dataBits);
+        var codeword = new BitBuffer(codewordLength());
+        encode(BitBuffer.of(dataBits), codeword);
+        return codeword.toString();
+    }
+
+    @Override
+    public DecodingOutcome decode(String receivedBits) {
+        requireCodeword(receivedBits);
+        var data = new BitBuffer(dataLength());
+        var status = decode(BitBuffer.of(receivedBits), data);
+        return new DecodingOutcome(data.toString(), status.errorDetected(), status.errorCorrected());
+    }
+
+    @Override
+    public int encodedLength(int dataLength) {
+        if (dataLength != dataLength()) {
+            throw new IllegalArgumentException(name + " expects " + dataLength() + " data bits");
+        }
+        return codewordLength();
+    }
+
+    @Override
+    public void encode(BitBuffer data, BitBuffer target) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        if (data.length() != dataLength()) {
+            throw new IllegalArgumentException(name + " expects " + dataLength() + " data bits");
+        }
+        target.setLength(codewordLength());
+        tables.encode(data, 0, dataLength(), target, 0);
+    }
+
+    @Override
+    public DecodingStatus decode(BitBuffer received, BitBuffer data) {
+        Objects.requireNonNull(received, "received must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        if (received.length() != codewordLength()) {
+            throw new IllegalArgumentException(name + " expects " + codewordLength() + "-bit code word");
+        }
+        data.setLength(dataLength());
+        return tables.decode(received, 0, data, 0);
+    }
+
+    @Override
+    public void encodeBlock(BitBuffer data, int dataOffset, int dataCount, BitBuffer target, int targetOffset) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        if (dataCount < 0 || dataCount > dataLength()) {
+            throw new IllegalArgumentException("dataCount must be between 0 and " + dataLength());
+        }
+        tables.encode(data, dataOffset, dataCount, target, targetOffset);
+    }
+
+    @Override
+    public DecodingStatus decodeBlock(BitBuffer received, int offset, BitBuffer data, int dataOffset) {
+        Objects.requireNonNull(received, "received must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        return tables.decode(received, offset, data, dataOffset);
+    }
+
+    private void requireDataBits(String dataBits) {
+        if (dataBits == null || dataBits.length() != dataLength() || !BitBuffer.isBinary(dataBits)) {
+            throw new IllegalArgumentException(name + " expects " + dataLength() + " data bits");
+        }
+    }
+
+    private void requireCodeword(String receivedBits) {
+        if (receivedBits == null || receivedBits.length() != codewordLength() || !BitBuffer.isBinary(receivedBits)) {
+            throw new IllegalArgumentException(name + " expects " + codewordLength() + "-bit code word");
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class HammingTables {
+
+    static final int MIN_PARITY_BITS = 2;
+    static final int MAX_PARITY_BITS = 7;
+
+    private static final int BYTE_VALUES = 1 << Byte.SIZE;
+    private static final ConcurrentMap<Integer, HammingTables> CACHE = new ConcurrentHashMap<>();
+
+    private final int parityBits;
+    private final boolean extended;
+    private final int dataLength;
+    private final int codewordLength;
+    private final int codewordWords;
+    private final int dataWords;
+    private final long[] encodeTable;
+    private final long[] decodeTable;
+    private final long[] syndromeMasks;
+    private final int[] correctionIndex;
+
+    private HammingTables(int parityBits, boolean extended) {
+        this.parityBits = parityBits;
+        this.extended = extended;
+        var hammingLength = (1 << parityBits) - 1;
+        this.dataLength = hammingLength - parityBits;
+        this.codewordLength = extended ? hammingLength + 1 : hammingLength;
+        this.codewordWords = words(codewordLength);
+        this.dataWords = words(dataLength);
+
+        var dataPositions = new int[dataLength];
+        for (int position = 1, next = 0; position <= hammingLength; position++) {
+            if (Integer.bitCount(position) != 1) {
+                dataPositions[next++] = position - 1;
+            }
+        }
+
+        this.syndromeMasks = new long[parityBits * codewordWords];
+        for (var index = 0; index < hammingLength; index++) {
+            for (var bit = 0; bit < parityBits; bit++) {
+                if (((index + 1) >>> bit & 1) != 0) {
+                    syndromeMasks[bit * codewordWords + (index >>> 6)] |= Long.MIN_VALUE >>> (index & 63);
+                }
+            }
+        }
+
+        this.correctionIndex = new int[1 << parityBits];
+        for (var syndrome = 0; syndrome < correctionIndex.length; syndrome++) {
+            correctionIndex[syndrome] = syndrome - 1;
+        }
+
+        this.encodeTable = new long[bytes(dataLength) * BYTE_VALUES * codewordWords];
+        for (var dataIndex = 0; dataIndex < dataLength; dataIndex++) {
+            var codeword = encodeSingleBit(dataPositions[dataIndex]);
+            var byteIndex = dataIndex >>> 3;
+            var bitMask = 0x80 >>> (dataIndex & 7);
+            for (var value = 0; value < BYTE_VALUES; value++) {
+                if ((value & bitMask) != 0) {
+                    for (var word = 0; word < codewordWords; word++) {
+                        encodeTable[(byteIndex * BYTE_VALUES + value) * codewordWords + word] ^= codeword[word];
+                    }
+                }
+            }
+        }
+
+        this.decodeTable = new long[bytes(codewordLength) * BYTE_VALUES * dataWords];
+        for (var dataIndex = 0; dataIndex < dataLength; dataIndex++) {
+            var position = dataPositions[dataIndex];
+            var byteIndex = position >>> 3;
+            var bitMask = 0x80 >>> (position & 7);
+            var dataWord = dataIndex >>> 6;
+            var dataBit = Long.MIN_VALUE >>> (dataIndex & 63);
+            for (var value = 0; value < BYTE_VALUES; value++) {
+                if ((value & bitMask) != 0) {
+                    decodeTable[(byteIndex * BYTE_VALUES + value) * dataWords + dataWord] |= dataBit;
+                }
+            }
+        }
+    }
+
+    static HammingTables of(int parityBits, boolean extended) {
+        if (parityBits < MIN_PARITY_BITS || parityBits > MAX_PARITY_BITS) {
+            throw new IllegalArgumentException(
+                    "parityBits must be between " + MIN_PARITY_BITS + " and " + MAX_PARITY_BITS
+            );
+        }
+        return CACHE.computeIfAbsent(parityBits << 1 | (extended ? 1 : 0), _ -> new HammingTables(parityBits, extended));
+    }
+
+    int parityBits() {
+        return parityBits;
+    }
+
+    int dataLength() {
+        return dataLength;
+    }
+
+    int codewordLength() {
+        return codewordLength;
+    }
+
+    void encode(BitBuffer data, int dataOffset, int dataCount, BitBuffer target, int targetOffset) {
+        var c0 = 0L;
+        var c1 = 0L;
+        for (int from = 0, byteIndex = 0; from < dataCount; from += Byte.SIZE, byteIndex++) {
+            var count = Math.min(Byte.SIZE, dataCount - from);
+            var value = (int) data.getBits(dataOffset + from, count) << (Byte.SIZE - count);
+            var entry = (byteIndex * BYTE_VALUES + value) * codewordWords;
+            c0 ^= encodeTable[entry];
+            if (codewordWords > 1) {
+                c1 ^= encodeTable[entry + 1];
+            }
+        }
+        writeWords(target, targetOffset, codewordLength, c0, c1);
+    }
+
+    DecodingStatus decode(BitBuffer received, int offset, BitBuffer data, int dataOffset) {
+        var firstCount = Math.min(Long.SIZE, codewordLength);
+        var c0 = received.getBits(offset, firstCount) << (Long.SIZE - firstCount);
+        var c1 = codewordWords > 1
+                ? received.getBits(offset + Long.SIZE, codewordLength - Long.SIZE) << (2 * Long.SIZE - codewordLength)
+                : 0L;
+
+        var syndrome = 0;
+        for (var bit = 0; bit < parityBits; bit++) {
+            var ones = Long.bitCount(c0 & syndromeMasks[bit * codewordWords]);
+            if (codewordWords > 1) {
+                ones += Long.bitCount(c1 & syndromeMasks[bit * codewordWords + 1]);
+            }
+            syndrome |= (ones & 1) << bit;
+        }
+
+        var status = DecodingStatus.NO_ERROR;
+        var flipIndex = -1;
+        if (extended) {
+            var overallParity = (Long.bitCount(c0) + Long.bitCount(c1)) & 1;
+            if (overallParity != 0) {
+                flipIndex = syndrome == 0 ? codewordLength - 1 : correctionIndex[syndrome];
+                status = DecodingStatus.ERROR_CORRECTED;
+            } else if (syndrome != 0) {
+                status = DecodingStatus.ERROR_DETECTED;
+            }
+        } else if (syndrome != 0) {
+            flipIndex = correctionIndex[syndrome];
+            status = DecodingStatus.ERROR_CORRECTED;
+        }
+
+        if (flipIndex >= Long.SIZE) {
+            c1 ^= Long.MIN_VALUE >>> (flipIndex - Long.SIZE);
+        } else if (flipIndex >= 0) {
+            c0 ^= Long.MIN_VALUE >>> flipIndex;
+        }
+
+        var d0 = 0L;
+        var d1 = 0L;
+        var codewordBytes = bytes(codewordLength);
+        for (var byteIndex = 0; byteIndex < codewordBytes; byteIndex++) {
+            var word = byteIndex < Long.BYTES ? c0 : c1;
+            var value = (int) (word >>> (56 - ((byteIndex & 7) << 3))) & 0xFF;
+            var entry = (byteIndex * BYTE_VALUES + value) * dataWords;
+            d0 |= decodeTable[entry];
+            if (dataWords > 1) {
+                d1 |= decodeTable[entry + 1];
+            }
+        }
+        writeWords(data, dataOffset, dataLength, d0, d1);
+        return status;
+    }
+
+    private long[] encodeSingleBit(int dataPosition) {
+        var codeword = new long[codewordWords];
+        codeword[dataPosition >>> 6] |= Long.MIN_VALUE >>> (dataPosition & 63);
+        for (var bit = 0; bit < parityBits; bit++) {
+            if (((dataPosition + 1) >>> bit & 1) != 0) {
+                var parityIndex = (1 << bit) - 1;
+                codeword[parityIndex >>> 6] |= Long.MIN_VALUE >>> (parityIndex & 63);
+            }
+        }
+        if (extended) {
+            var weight = 0;
+            for (var word : codeword) {
+                weight += Long.bitCount(word);
+            }
+            if ((weight & 1) != 0) {
+                var parityIndex = codewordLength - 1;
+                codeword[parityIndex >>> 6] |= Long.MIN_VALUE >>> (parityIndex & 63);
+            }
+        }
+        return codeword;
+    }
+
+    private static void writeWords(BitBuffer target, int offset, int length, long w0, long w1) {
+        Objects.requireNonNull(target, "target must not be null");
+        var firstCount = Math.min(Long.SIZE, length);
+        target.setBits(offset, firstCount, w0 >>> (Long.SIZE - firstCount));
+        if (length > Long.SIZE) {
+            target.setBits(offset + Long.SIZE, length - Long.SIZE, w1 >>> (2 * Long.SIZE - length));
+        }
+    }
+
+    private static int words(int bits) {
+        return (bits + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static int bytes(int bits) {
+        return (bits + Byte.SIZE - 1) / Byte.SIZE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fudala.domain;
+
+public sealed interface Interleaver permits BlockInterleaver, ConvolutionalInterleaver, NoInterleaver {
+    String name();
+
+    void interleave(BitBuffer bits);
+
+    void deinterleave(BitBuffer bits);
+
+    void deinterleaveErrors(BitBuffer errors, BitBuffer target);
+
+    static Interleaver none() {
+        return NoInterleaver.INSTANCE;
+    }
+}
@@ -0,0 +1,31 @@
+package com.fudala.domain;
+
+import java.util.Objects;
+
+final class NoInterleaver implements Interleaver {
+
+    static final NoInterleaver INSTANCE = new NoInterleaver();
+
+    private NoInterleaver() {
+    }
+
+    @Override
+    public String name() {
+        return "None";
+    }
+
+    @Override
+    public void interleave(BitBuffer bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+    }
+
+    @Override
+    public void deinterleave(BitBuffer bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+    }
+
+    @Override
+    public void deinterleaveErrors(BitBuffer errors, BitBuffer target) {
+        Objects.requireNonNull(target, "target must not be null").xor(errors);
+    }
+}
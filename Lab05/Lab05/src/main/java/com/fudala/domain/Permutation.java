@@ -0,0 +1,112 @@
+package com.fudala.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class Permutation {
+
+    private final int[] mapping;
+    private final int[] inverse;
+    private final int[] cycles;
+    private final int[] cycleStarts;
+
+    private Permutation(int[] mapping, int[] inverse, int[] cycles, int[] cycleStarts) {
+        this.mapping = mapping;
+        this.inverse = inverse;
+        this.cycles = cycles;
+        this.cycleStarts = cycleStarts;
+    }
+
+    static Permutation of(int[] mapping) {
+        Objects.requireNonNull(mapping, "mapping must not be null");
+        var inverse = new int[mapping.length];
+        for (var index = 0; index < mapping.length; index++) {
+            inverse[mapping[index]] = index;
+        }
+        var visited = new boolean[mapping.length];
+        var cycles = new int[mapping.length];
+        var cycleStarts = new int[mapping.length / 2 + 1];
+        var size = 0;
+        var cycleCount = 0;
+        for (var leader = 0; leader < mapping.length; leader++) {
+            if (visited[leader] || mapping[leader] == leader) {
+                visited[leader] = true;
+                continue;
+            }
+            cycleStarts[cycleCount++] = size;
+            for (var index = leader; !visited[index]; index = mapping[index]) {
+                visited[index] = true;
+                cycles[size++] = index;
+            }
+        }
+        cycleStarts[cycleCount] = size;
+        return new Permutation(
+                mapping.clone(),
+                inverse,
+                Arrays.copyOf(cycles, size),
+                Arrays.copyOf(cycleStarts, cycleCount + 1)
+        );
+    }
+
+    void apply(BitBuffer bits) {
+        requireLength(bits);
+        var words = bits.words();
+        for (var cycle = 0; cycle + 1 < cycleStarts.length; cycle++) {
+            var start = cycleStarts[cycle];
+            var last = cycleStarts[cycle + 1] - 1;
+            var carried = bit(words, cycles[last]);
+            for (var position = last; position > start; position--) {
+                store(words, cycles[position], bit(words, cycles[position - 1]));
+            }
+            store(words, cycles[start], carried);
+        }
+    }
+
+    void applyInverse(BitBuffer bits) {
+        requireLength(bits);
+        var words = bits.words();
+        for (var cycle = 0; cycle + 1 < cycleStarts.length; cycle++) {
+            var start = cycleStarts[cycle];
+            var last = cycleStarts[cycle + 1] - 1;
+            var carried = bit(words, cycles[start]);
+            for (var position = start; position < last; position++) {
+                store(words, cycles[position], bit(words, cycles[position + 1]));
+            }
+            store(words, cycles[last], carried);
+        }
+    }
+
+    int length() {
+        return mapping.length;
+    }
+
+    void flipInverse(BitBuffer errors, BitBuffer target) {
+        requireLength(errors);
+        requireLength(target);
+        var errorWords = errors.words();
+        var targetWords = target.words();
+        for (var word = 0; word < errorWords.length; word++) {
+            for (var remaining = errorWords[word]; remaining != 0; remaining &= remaining - 1) {
+                var index = inverse[(word << 6) + 63 - Long.numberOfTrailingZeros(remaining)];
+                targetWords[index >>> 6] ^= Long.MIN_VALUE >>> index;
+            }
+        }
+    }
+
+    private static long bit(long[] words, int index) {
+        return (words[index >>> 6] << index) >>> 63;
+    }
+
+    private static void store(long[] words, int index, long bit) {
+        var word = index >>> 6;
+        var shift = 63 - (index & 63);
+        words[word] = (words[word] & ~(1L << shift)) | (bit << shift);
+    }
+
+    private void requireLength(BitBuffer bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        if (bits.length() != mapping.length) {
+            throw new IllegalArgumentException("Permutation expects " + mapping.length + " bits");
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.fudala.domain;
 
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
-public record RandomBitErrorChannel(double bitErrorProbability, Random random) {
+public record RandomBitErrorChannel(
+        double bitErrorProbability,
+        RandomGenerator random,
+        ErrorInjection injection
+) implements BitErrorChannel {
 
     public RandomBitErrorChannel {
-        if (bitErrorProbability < 0.0 || bitErrorProbability > 1.0) {
-            throw new IllegalArgumentException("bitErrorProbability must be between 0.0 and 1.0");
-        }
+        BitErrors.requireProbability(bitErrorProbability, "bitErrorProbability");
         Objects.requireNonNull(random, "random must not be null");
+        Objects.requireNonNull(injection, "injection must not be null");
+    }
+
+    public RandomBitErrorChannel(double bitErrorProbability, RandomGenerator random) {
+        this(bitErrorProbability, random, ErrorInjection.PER_BIT);
     }
 
     public String transmit(String bits) {
@@ -17,12 +24,31 @@ public record RandomBitErrorChannel(double bitErrorProbability, Random random) {
         if (bits.isEmpty()) {
             throw new IllegalArgumentException("bits must not be empty");
         }
-        var chars = bits.toCharArray();
-        for (var i = 0; i < chars.length; i++) {
+        var buffer = BitBuffer.of(bits);
+        transmit(buffer);
+        return buffer.toString();
+    }
+
+    @Override
+    public int transmit(BitBuffer bits) {
+        Objects.requireNonNull(bits, "bits must not be null");
+        if (bits.length() == 0) {
+            throw new IllegalArgumentException("bits must not be empty");
+        }
+        return switch (injection) {
+            case PER_BIT -> flipPerBit(bits);
+            case GEOMETRIC_SKIP -> BitErrors.flipGeometric(bits, 0, bits.length(), bitErrorProbability, random);
+        };
+    }
+
+    private int flipPerBit(BitBuffer bits) {
+        var flipped = 0;
+        for (var i = 0; i < bits.length(); i++) {
             if (random.nextDouble() < bitErrorProbability) {
-                chars[i] = chars[i] == '0' ? '1' : '0';
+                bits.flip(i);
+                flipped++;
             }
         }
-        return new String(chars);
+        return flipped;
     }
 }
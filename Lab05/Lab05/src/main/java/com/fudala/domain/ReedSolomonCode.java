@@ -0,0 +1,410 @@
+package com.fudala.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class ReedSolomonCode implements BlockCode {
+
+    private static final int SYMBOL_BITS = Byte.SIZE;
+    private static final int SYMBOLS_PER_WORD = Long.SIZE / SYMBOL_BITS;
+    private static final int DEFAULT_CODEWORD_SYMBOLS = 255;
+    private static final int DEFAULT_DATA_SYMBOLS = 223;
+
+    private final int codewordSymbols;
+    private final int dataSymbols;
+    private final int paritySymbols;
+    private final int registerWords;
+    private final long[] remainderTable;
+    private final long[] sliceTable;
+    private final ThreadLocal<Workspace> workspaces;
+    private final String name;
+
+    public ReedSolomonCode() {
+        this(DEFAULT_CODEWORD_SYMBOLS, DEFAULT_DATA_SYMBOLS);
+    }
+
+    public ReedSolomonCode(int codewordSymbols, int dataSymbols) {
+        if (codewordSymbols < 2 || codewordSymbols > GaloisField.ORDER) {
+            throw new IllegalArgumentException("codewordSymbols must be between 2 and " + GaloisField.ORDER);
+        }
+        if (dataSymbols <= 0 || dataSymbols >= codewordSymbols) {
+            throw new IllegalArgumentException("dataSymbols must be between 1 and " + (codewordSymbols - 1));
+        }
+        this.codewordSymbols = codewordSymbols;
+        this.dataSymbols = dataSymbols;
+        this.paritySymbols = codewordSymbols - dataSymbols;
+        this.registerWords = (paritySymbols + SYMBOLS_PER_WORD - 1) / SYMBOLS_PER_WORD;
+        this.remainderTable = buildRemainderTable(generatorPolynomial(paritySymbols), registerWords);
+        this.sliceTable = paritySymbols >= SYMBOLS_PER_WORD ? buildSliceTable() : new long[0];
+        this.workspaces = ThreadLocal.withInitial(() -> new Workspace(paritySymbols, registerWords));
+        this.name = "RS(" + codewordSymbols + "," + dataSymbols + ")";
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    public int codewordSymbols() {
+        return codewordSymbols;
+    }
+
+    public int dataSymbols() {
+        return dataSymbols;
+    }
+
+    public int paritySymbols() {
+        return paritySymbols;
+    }
+
+    public int correctableSymbols() {
+        return paritySymbols / 2;
+    }
+
+    @Override
+    public int dataLength() {
+        return dataSymbols * SYMBOL_BITS;
+    }
+
+    @Override
+    public int codewordLength() {
+        return codewordSymbols * SYMBOL_BITS;
+    }
+
+    @Override
+    public String encode(String dataBits) {
+        requireDataBits(dataBits);
+        var codeword = new BitBuffer(codewordLength());
+        encode(BitBuffer.of(dataBits), codeword);
+        return codeword.toString();
+    }
+
+    @Override
+    public DecodingOutcome decode(String receivedBits) {
+        requireCodeword(receivedBits);
+        var data = new BitBuffer(dataLength());
+        var status = decode(BitBuffer.of(receivedBits), data);
+        return new DecodingOutcome(data.toString(), status.errorDetected(), status.errorCorrected());
+    }
+
+    @Override
+    public int encodedLength(int dataLength) {
+        if (dataLength != dataLength()) {
+            throw new IllegalArgumentException(name + " expects " + dataLength() + " data bits");
+        }
+        return codewordLength();
+    }
+
+    @Override
+    public void encode(BitBuffer data, BitBuffer target) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        if (data.length() != dataLength()) {
+            throw new IllegalArgumentException(name + " expects " + dataLength() + " data bits");
+        }
+        target.setLength(codewordLength());
+        encodeBlock(data, 0, dataLength(), target, 0);
+    }
+
+    @Override
+    public DecodingStatus decode(BitBuffer received, BitBuffer data) {
+        Objects.requireNonNull(received, "received must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        if (received.length() != codewordLength()) {
+            throw new IllegalArgumentException(name + " expects " + codewordLength() + "-bit code word");
+        }
+        data.setLength(dataLength());
+        return decodeBlock(received, 0, data, 0);
+    }
+
+    @Override
+    public void encodeBlock(BitBuffer data, int dataOffset, int dataCount, BitBuffer target, int targetOffset) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        var dataBits = dataLength();
+        if (dataCount < 0 || dataCount > dataBits) {
+            throw new IllegalArgumentException("dataCount must be between 0 and " + dataBits);
+        }
+        var register = workspaces.get().register;
+        Arrays.fill(register, 0L);
+        divide(data, dataOffset, dataSymbols, dataCount, register);
+
+        if (dataCount > 0) {
+            target.copyFrom(data, dataOffset, targetOffset, dataCount);
+        }
+        for (var from = dataCount; from < dataBits; from += Long.SIZE) {
+            target.setBits(targetOffset + from, Math.min(Long.SIZE, dataBits - from), 0L);
+        }
+        var parityBits = paritySymbols * SYMBOL_BITS;
+        for (var word = 0; word < registerWords; word++) {
+            var count = Math.min(Long.SIZE, parityBits - word * Long.SIZE);
+            target.setBits(targetOffset + dataBits + word * Long.SIZE, count, register[word] >>> (Long.SIZE - count));
+        }
+    }
+
+    @Override
+    public DecodingStatus decodeBlock(BitBuffer received, int offset, BitBuffer data, int dataOffset) {
+        Objects.requireNonNull(received, "received must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        var workspace = workspaces.get();
+        var register = workspace.register;
+        Arrays.fill(register, 0L);
+        divide(received, offset, codewordSymbols, codewordLength(), register);
+        data.copyFrom(received, offset, dataOffset, dataLength());
+
+        var remainder = 0L;
+        for (var word : register) {
+            remainder |= word;
+        }
+        return remainder == 0 ? DecodingStatus.NO_ERROR : correct(workspace, data, dataOffset);
+    }
+
+    private void divide(BitBuffer bits, int offset, int symbolCount, int bitCount, long[] register) {
+        var totalBits = symbolCount * SYMBOL_BITS;
+        var sliced = sliceTable.length > 0;
+        for (var from = 0; from < totalBits; from += Long.SIZE) {
+            var chunk = Math.min(Long.SIZE, totalBits - from);
+            var available = Math.clamp(bitCount - from, 0, chunk);
+            var word = available == 0 ? 0L : bits.getBits(offset + from, available) << (Long.SIZE - available);
+            if (sliced && chunk == Long.SIZE) {
+                divideWord(register, word);
+                continue;
+            }
+            for (var symbol = chunk / SYMBOL_BITS; symbol > 0; symbol--) {
+                divideSymbol(register, (int) (word >>> (Long.SIZE - SYMBOL_BITS)));
+                word <<= SYMBOL_BITS;
+            }
+        }
+    }
+
+    private void divideWord(long[] register, long word) {
+        var top = register[0] ^ word;
+        var e0 = sliceEntry(0, (int) (top >>> 56));
+        var e1 = sliceEntry(1, (int) (top >>> 48) & 0xFF);
+        var e2 = sliceEntry(2, (int) (top >>> 40) & 0xFF);
+        var e3 = sliceEntry(3, (int) (top >>> 32) & 0xFF);
+        var e4 = sliceEntry(4, (int) (top >>> 24) & 0xFF);
+        var e5 = sliceEntry(5, (int) (top >>> 16) & 0xFF);
+        var e6 = sliceEntry(6, (int) (top >>> 8) & 0xFF);
+        var e7 = sliceEntry(7, (int) top & 0xFF);
+        for (var index = 0; index < registerWords; index++) {
+            var shifted = index + 1 < registerWords ? register[index + 1] : 0L;
+            register[index] = shifted
+                    ^ sliceTable[e0 + index] ^ sliceTable[e1 + index]
+                    ^ sliceTable[e2 + index] ^ sliceTable[e3 + index]
+                    ^ sliceTable[e4 + index] ^ sliceTable[e5 + index]
+                    ^ sliceTable[e6 + index] ^ sliceTable[e7 + index];
+        }
+    }
+
+    private int sliceEntry(int slice, int value) {
+        return (slice * GaloisField.SIZE + value) * registerWords;
+    }
+
+    private void divideSymbol(long[] register, int symbol) {
+        var feedback = symbol ^ (int) (register[0] >>> (Long.SIZE - SYMBOL_BITS));
+        var entry = feedback * registerWords;
+        for (var index = 0; index < registerWords - 1; index++) {
+            register[index] = (register[index] << SYMBOL_BITS | register[index + 1] >>> (Long.SIZE - SYMBOL_BITS))
+                    ^ remainderTable[entry + index];
+        }
+        register[registerWords - 1] = register[registerWords - 1] << SYMBOL_BITS
+                ^ remainderTable[entry + registerWords - 1];
+    }
+
+    private DecodingStatus correct(Workspace workspace, BitBuffer data, int dataOffset) {
+        var syndromes = workspace.syndromes;
+        var remainder = workspace.remainder;
+        var register = workspace.register;
+        for (var index = 0; index < paritySymbols; index++) {
+            remainder[index] = (int) (register[index / SYMBOLS_PER_WORD] >>> (Long.SIZE - SYMBOL_BITS * (index % SYMBOLS_PER_WORD + 1)))
+                    & (GaloisField.SIZE - 1);
+        }
+        for (var root = 1; root <= paritySymbols; root++) {
+            var value = 0;
+            for (var index = 0; index < paritySymbols; index++) {
+                value = GaloisField.multiplyByPower(value, root) ^ remainder[index];
+            }
+            syndromes[root - 1] = GaloisField.multiply(value, GaloisField.exp(-root * paritySymbols));
+        }
+
+        var locator = workspace.locator;
+        var errorCount = berlekampMassey(workspace);
+        if (errorCount == 0 || 2 * errorCount > paritySymbols) {
+            return DecodingStatus.ERROR_DETECTED;
+        }
+
+        var positions = workspace.positions;
+        var terms = workspace.scratch;
+        System.arraycopy(locator, 0, terms, 0, errorCount + 1);
+        var found = 0;
+        for (var power = 0; power < codewordSymbols; power++) {
+            var sum = terms[0];
+            for (var degree = 1; degree <= errorCount; degree++) {
+                sum ^= terms[degree];
+                terms[degree] = GaloisField.multiplyByPower(terms[degree], GaloisField.ORDER - degree);
+            }
+            if (sum == 0) {
+                if (found == errorCount) {
+                    return DecodingStatus.ERROR_DETECTED;
+                }
+                positions[found++] = power;
+            }
+        }
+        if (found != errorCount) {
+            return DecodingStatus.ERROR_DETECTED;
+        }
+
+        var evaluator = workspace.evaluator;
+        for (var degree = 0; degree < paritySymbols; degree++) {
+            var value = 0;
+            for (var term = 0; term <= Math.min(degree, errorCount); term++) {
+                value ^= GaloisField.multiply(locator[term], syndromes[degree - term]);
+            }
+            evaluator[degree] = value;
+        }
+
+        var magnitudes = workspace.magnitudes;
+        for (var error = 0; error < errorCount; error++) {
+            var inversePower = GaloisField.ORDER - positions[error];
+            var numerator = 0;
+            for (var degree = paritySymbols - 1; degree >= 0; degree--) {
+                numerator = GaloisField.multiplyByPower(numerator, inversePower) ^ evaluator[degree];
+            }
+            var denominator = 0;
+            for (var degree = 1; degree <= errorCount; degree += 2) {
+                denominator ^= GaloisField.multiplyByPower(locator[degree], inversePower * (degree - 1) % GaloisField.ORDER);
+            }
+            if (denominator == 0) {
+                return DecodingStatus.ERROR_DETECTED;
+            }
+            magnitudes[error] = GaloisField.divide(numerator, denominator);
+        }
+
+        for (var error = 0; error < errorCount; error++) {
+            var symbol = codewordSymbols - 1 - positions[error];
+            if (symbol < dataSymbols) {
+                data.xorBits(dataOffset + symbol * SYMBOL_BITS, SYMBOL_BITS, magnitudes[error]);
+            }
+        }
+        return DecodingStatus.ERROR_CORRECTED;
+    }
+
+    private int berlekampMassey(Workspace workspace) {
+        var syndromes = workspace.syndromes;
+        var locator = workspace.locator;
+        var previous = workspace.previous;
+        var scratch = workspace.scratch;
+        Arrays.fill(locator, 0);
+        Arrays.fill(previous, 0);
+        locator[0] = 1;
+        previous[0] = 1;
+        var length = 0;
+        var shift = 1;
+        var lastDiscrepancy = 1;
+
+        for (var step = 0; step < paritySymbols; step++) {
+            var discrepancy = syndromes[step];
+            for (var index = 1; index <= length; index++) {
+                discrepancy ^= GaloisField.multiply(locator[index], syndromes[step - index]);
+            }
+            if (discrepancy == 0) {
+                shift++;
+                continue;
+            }
+            var factor = GaloisField.divide(discrepancy, lastDiscrepancy);
+            var grow = 2 * length <= step;
+            if (grow) {
+                System.arraycopy(locator, 0, scratch, 0, locator.length);
+            }
+            for (var index = 0; index + shift <= paritySymbols; index++) {
+                locator[index + shift] ^= GaloisField.multiply(factor, previous[index]);
+            }
+            if (grow) {
+                length = step + 1 - length;
+                System.arraycopy(scratch, 0, previous, 0, previous.length);
+                lastDiscrepancy = discrepancy;
+                shift = 1;
+            } else {
+                shift++;
+            }
+        }
+        return length;
+    }
+
+    private static int[] generatorPolynomial(int degree) {
+        var generator = new int[degree + 1];
+        generator[0] = 1;
+        for (var root = 1; root <= degree; root++) {
+            var factor = GaloisField.exp(root);
+            for (var index = root; index > 0; index--) {
+                generator[index] ^= GaloisField.multiply(generator[index - 1], factor);
+            }
+        }
+        return generator;
+    }
+
+    private static long[] buildRemainderTable(int[] generator, int registerWords) {
+        var table = new long[GaloisField.SIZE * registerWords];
+        for (var feedback = 1; feedback < GaloisField.SIZE; feedback++) {
+            for (var index = 0; index < generator.length - 1; index++) {
+                var product = (long) GaloisField.multiply(feedback, generator[index + 1]);
+                var shift = Long.SIZE - SYMBOL_BITS * (index % SYMBOLS_PER_WORD + 1);
+                table[feedback * registerWords + index / SYMBOLS_PER_WORD] |= product << shift;
+            }
+        }
+        return table;
+    }
+
+    private long[] buildSliceTable() {
+        var table = new long[SYMBOLS_PER_WORD * GaloisField.SIZE * registerWords];
+        var register = new long[registerWords];
+        for (var slice = 0; slice < SYMBOLS_PER_WORD; slice++) {
+            for (var value = 1; value < GaloisField.SIZE; value++) {
+                Arrays.fill(register, 0L);
+                register[0] = (long) value << (Long.SIZE - SYMBOL_BITS * (slice + 1));
+                for (var step = 0; step < SYMBOLS_PER_WORD; step++) {
+                    divideSymbol(register, 0);
+                }
+                System.arraycopy(register, 0, table, (slice * GaloisField.SIZE + value) * registerWords, registerWords);
+            }
+        }
+        return table;
+    }
+
+    private void requireDataBits(String dataBits) {
+        if (dataBits == null || dataBits.length() != dataLength() || !BitBuffer.isBinary(dataBits)) {
+            throw new IllegalArgumentException(name + " expects " + dataLength() + " data bits");
+        }
+    }
+
+    private void requireCodeword(String receivedBits) {
+        if (receivedBits == null || receivedBits.length() != codewordLength() || !BitBuffer.isBinary(receivedBits)) {
+            throw new IllegalArgumentException(name + " expects " + codewordLength() + "-bit code word");
+        }
+    }
+
+    private static final class Workspace {
+        private final long[] register;
+        private final int[] remainder;
+        private final int[] syndromes;
+        private final int[] locator;
+        private final int[] previous;
+        private final int[] scratch;
+        private final int[] evaluator;
+        private final int[] positions;
+        private final int[] magnitudes;
+
+        private Workspace(int paritySymbols, int registerWords) {
+            this.register = new long[registerWords];
+            this.remainder = new int[paritySymbols];
+            this.syndromes = new int[paritySymbols];
+            this.locator = new int[paritySymbols + 1];
+            this.previous = new int[paritySymbols + 1];
+            this.scratch = new int[paritySymbols + 1];
+            this.evaluator = new int[paritySymbols];
+            this.positions = new int[paritySymbols];
+            this.magnitudes = new int[paritySymbols];
+        }
+    }
+}
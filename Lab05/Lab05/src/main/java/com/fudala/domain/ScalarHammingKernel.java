@@ -0,0 +1,37 @@
+package com.fudala.domain;
+
+record ScalarHammingKernel(HammingBatchLayout layout) implements HammingBatchKernel {
+
+    @Override
+    public boolean vectorized() {
+        return false;
+    }
+
+    @Override
+    public long decode(long[] codewords, long[] data, int from, int to) {
+        var detected = 0;
+        var corrected = 0;
+        for (var i = from; i < to; i++) {
+            var codeword = codewords[i];
+            var syndrome = 0;
+            for (var bit = 0; bit < layout.parityBits; bit++) {
+                syndrome |= (Long.bitCount(codeword & layout.syndromeMasks[bit]) & 1) << bit;
+            }
+            if (layout.extended) {
+                if ((Long.bitCount(codeword) & 1) != 0) {
+                    codeword ^= syndrome == 0 ? 1L : layout.flipMask(syndrome);
+                    detected++;
+                    corrected++;
+                } else if (syndrome != 0) {
+                    detected++;
+                }
+            } else if (syndrome != 0) {
+                codeword ^= layout.flipMask(syndrome);
+                detected++;
+                corrected++;
+            }
+            data[i] = layout.extractData(codeword);
+        }
+        return (long) detected << Integer.SIZE | corrected;
+    }
+}
@@ -0,0 +1,65 @@
+package com.fudala.domain;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorHammingKernel implements HammingBatchKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private final HammingBatchLayout layout;
+    private final ScalarHammingKernel tail;
+
+    VectorHammingKernel(HammingBatchLayout layout) {
+        this.layout = layout;
+        this.tail = new ScalarHammingKernel(layout);
+    }
+
+    @Override
+    public boolean vectorized() {
+        return true;
+    }
+
+    @Override
+    public long decode(long[] codewords, long[] data, int from, int to) {
+        var zero = LongVector.zero(SPECIES);
+        var one = LongVector.broadcast(SPECIES, 1L);
+        var length = LongVector.broadcast(SPECIES, layout.codewordLength);
+        var detected = 0;
+        var corrected = 0;
+        var i = from;
+        for (var upper = from + SPECIES.loopBound(to - from); i < upper; i += SPECIES.length()) {
+            var codeword = LongVector.fromArray(SPECIES, codewords, i);
+            var syndrome = zero;
+            for (var bit = 0; bit < layout.parityBits; bit++) {
+                var parity = codeword.and(layout.syndromeMasks[bit]).lanewise(VectorOperators.BIT_COUNT).and(1L);
+                syndrome = syndrome.or(parity.lanewise(VectorOperators.LSHL, bit));
+            }
+            var nonZero = syndrome.compare(VectorOperators.NE, 0L);
+            var flip = one.lanewise(VectorOperators.LSHL, length.sub(syndrome));
+            if (layout.extended) {
+                var odd = codeword.lanewise(VectorOperators.BIT_COUNT).and(1L).compare(VectorOperators.NE, 0L);
+                var flipData = odd.and(nonZero);
+                codeword = codeword.lanewise(VectorOperators.XOR, flip, flipData)
+                        .lanewise(VectorOperators.XOR, one, odd.andNot(nonZero));
+                detected += odd.or(nonZero).trueCount();
+                corrected += odd.trueCount();
+            } else {
+                codeword = codeword.lanewise(VectorOperators.XOR, flip, nonZero);
+                detected += nonZero.trueCount();
+                corrected += nonZero.trueCount();
+            }
+            var value = zero;
+            for (var segment = 0; segment < layout.segmentShifts.length; segment++) {
+                var segmentLength = layout.segmentLengths[segment];
+                value = value.lanewise(VectorOperators.LSHL, segmentLength)
+                        .or(codeword.lanewise(VectorOperators.LSHR, layout.segmentShifts[segment])
+                                .and((1L << segmentLength) - 1));
+            }
+            value.intoArray(data, i);
+        }
+        var remainder = tail.decode(codewords, data, i, to);
+        return ((long) detected << Integer.SIZE | corrected) + remainder;
+    }
+}
@@ -0,0 +1,76 @@
+package com.fudala.infrastructure;
+
+import com.fudala.domain.CrcEngine;
+import com.fudala.domain.CrcState;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public final class CrcChecksums {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MAPPING_SIZE = 64L * 1024 * 1024;
+
+    private CrcChecksums() {
+    }
+
+    public static long checksum(CrcEngine engine, InputStream input) throws IOException {
+        Objects.requireNonNull(engine, "engine must not be null");
+        var state = engine.newState();
+        update(state, input);
+        return state.getValue();
+    }
+
+    public static long checksum(CrcEngine engine, ReadableByteChannel channel) throws IOException {
+        Objects.requireNonNull(engine, "engine must not be null");
+        var state = engine.newState();
+        update(state, channel);
+        return state.getValue();
+    }
+
+    public static long checksum(CrcEngine engine, Path file) throws IOException {
+        Objects.requireNonNull(engine, "engine must not be null");
+        var state = engine.newState();
+        update(state, file);
+        return state.getValue();
+    }
+
+    public static void update(CrcState state, InputStream input) throws IOException {
+        Objects.requireNonNull(state, "state must not be null");
+        Objects.requireNonNull(input, "input must not be null");
+        var buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            state.update(buffer, 0, read);
+        }
+    }
+
+    public static void update(CrcState state, ReadableByteChannel channel) throws IOException {
+        Objects.requireNonNull(state, "state must not be null");
+        Objects.requireNonNull(channel, "channel must not be null");
+        var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            state.update(buffer);
+            buffer.clear();
+        }
+    }
+
+    public static void update(CrcState state, Path file) throws IOException {
+        Objects.requireNonNull(state, "state must not be null");
+        Objects.requireNonNull(file, "file must not be null");
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var size = channel.size();
+            for (var position = 0L; position < size; position += MAPPING_SIZE) {
+                var mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPING_SIZE, size - position));
+                state.update(mapped);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.fudala.infrastructure;
+
+import com.fudala.application.SweepPoint;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public final class CsvSweepWriter implements SweepWriter {
+
+    private static final String HEADER = "code,payload_bits,frame_bits,bit_error_probability,packets,"
+            + "channel_errors,detected_errors,corrected_errors,undetected_errors,false_alarms,"
+            + "residual_bit_errors,frame_errors,bit_error_rate,frame_error_rate";
+
+    private final Writer output;
+
+    public CsvSweepWriter(Writer output) throws IOException {
+        this.output = output;
+        output.write(HEADER);
+        output.write(System.lineSeparator());
+        output.flush();
+    }
+
+    @Override
+    public void write(SweepPoint point) throws IOException {
+        var stats = point.statistics();
+        output.write(String.join(",",
+                quote(point.codeName()),
+                Integer.toString(point.payloadBits()),
+                Integer.toString(point.frameBits()),
+                Double.toString(point.bitErrorProbability()),
+                Long.toString(stats.totalPackets()),
+                Long.toString(stats.channelErrors()),
+                Long.toString(stats.detectedErrors()),
+                Long.toString(stats.correctedErrors()),
+                Long.toString(stats.undetectedErrors()),
+                Long.toString(stats.falseAlarms()),
+                Long.toString(point.residualBitErrors()),
+                Long.toString(point.frameErrors()),
+                Double.toString(point.bitErrorRate()),
+                Double.toString(point.frameErrorRate())
+        ));
+        output.write(System.lineSeparator());
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
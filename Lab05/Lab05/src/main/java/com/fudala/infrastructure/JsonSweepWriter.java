@@ -0,0 +1,55 @@
+package com.fudala.infrastructure;
+
+import com.fudala.application.SweepPoint;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public final class JsonSweepWriter implements SweepWriter {
+
+    private final Writer output;
+    private boolean first = true;
+
+    public JsonSweepWriter(Writer output) throws IOException {
+        this.output = output;
+        output.write("[");
+        output.flush();
+    }
+
+    @Override
+    public void write(SweepPoint point) throws IOException {
+        var stats = point.statistics();
+        output.write(first ? System.lineSeparator() : "," + System.lineSeparator());
+        first = false;
+        output.write("  {\"code\": " + quote(point.codeName())
+                + ", \"payloadBits\": " + point.payloadBits()
+                + ", \"frameBits\": " + point.frameBits()
+                + ", \"bitErrorProbability\": " + point.bitErrorProbability()
+                + ", \"packets\": " + stats.totalPackets()
+                + ", \"channelErrors\": " + stats.channelErrors()
+                + ", \"detectedErrors\": " + stats.detectedErrors()
+                + ", \"correctedErrors\": " + stats.correctedErrors()
+                + ", \"undetectedErrors\": " + stats.undetectedErrors()
+                + ", \"falseAlarms\": " + stats.falseAlarms()
+                + ", \"residualBitErrors\": " + point.residualBitErrors()
+                + ", \"frameErrors\": " + point.frameErrors()
+                + ", \"bitErrorRate\": " + number(point.bitErrorRate())
+                + ", \"frameErrorRate\": " + number(point.frameErrorRate())
+                + "}");
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.write(System.lineSeparator() + "]" + System.lineSeparator());
+        output.close();
+    }
+
+    private static String number(double value) {
+        return Double.isFinite(value) ? Double.toString(value) : "null";
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -1,15 +1,29 @@
 package com.fudala.infrastructure;
 
+import com.fudala.application.ConvergenceTarget;
+import com.fudala.application.RateEstimate;
+import com.fudala.application.SimulationSnapshot;
+import com.fudala.application.StatisticsAccumulator;
+import com.fudala.application.StoppingCriteria;
 import com.fudala.application.TransmissionSimulator;
 import com.fudala.application.TransmissionStatistics;
+import com.fudala.domain.BitBuffer;
+import com.fudala.domain.BlockCode;
+import com.fudala.domain.ChannelModel;
 import com.fudala.domain.CrcCode;
 import com.fudala.domain.ErrorControlCode;
+import com.fudala.domain.ExtendedHammingCode;
 import com.fudala.domain.HammingCode;
+import com.fudala.domain.Interleaver;
 import com.fudala.domain.RandomBitErrorChannel;
+import com.fudala.domain.ReedSolomonCode;
 import com.fudala.domain.TransmissionResult;
 
+import java.time.Duration;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @SuppressWarnings("java:S106")
 public final class Main {
@@ -26,6 +40,9 @@ public final class Main {
             System.out.println("Data transmission simulator");
             System.out.println("1) Manual transmission");
             System.out.println("2) Test mode (1000 packets)");
+            System.out.println("3) Parallel test mode");
+            System.out.println("4) Importance sampling mode");
+            System.out.println("5) Adaptive test mode (target precision)");
             System.out.println("0) Exit");
             System.out.print("Choose option: ");
             var option = scanner.nextLine().trim();
@@ -42,6 +59,9 @@ public final class Main {
                 switch (option) {
                     case "1" -> runManual(scanner, simulator, code, channel);
                     case "2" -> runTest(scanner, simulator, code, channel);
+                    case "3" -> runParallelTest(scanner, simulator, code, probability);
+                    case "4" -> runImportanceSampling(scanner, simulator, code, probability);
+                    case "5" -> runAdaptiveTest(scanner, simulator, code, probability);
                     default -> System.out.println("Unknown option");
                 }
             }
@@ -54,12 +74,24 @@ public final class Main {
         System.out.println("Choose code:");
         System.out.println("1) Hamming(7,4)");
         System.out.println("2) CRC-8");
+        System.out.println("3) Hamming(15,11)");
+        System.out.println("4) Hamming(31,26)");
+        System.out.println("5) SECDED(8,4)");
+        System.out.println("6) SECDED(16,11)");
+        System.out.println("7) RS(15,11)");
+        System.out.println("8) RS(255,223)");
         System.out.print("Option: ");
         var choice = scanner.nextLine().trim();
 
         return switch (choice) {
             case "1" -> new HammingCode();
             case "2" -> new CrcCode();
+            case "3" -> new HammingCode(4);
+            case "4" -> new HammingCode(5);
+            case "5" -> new ExtendedHammingCode();
+            case "6" -> new ExtendedHammingCode(4);
+            case "7" -> new ReedSolomonCode(15, 11);
+            case "8" -> new ReedSolomonCode();
             default -> {
                 System.out.println("Unknown code option");
                 yield null;
@@ -91,13 +123,14 @@ public final class Main {
             RandomBitErrorChannel channel
     ) {
         var dataBits = readDataBits(scanner, code);
-        TransmissionResult result = simulator.simulateSingle(code, channel, dataBits);
+        TransmissionResult result = simulator.simulateSingle(code, Interleaver.none(), channel, dataBits);
+        var decodedBits = result.decodingOutcome().dataBits();
 
         System.out.println("Original data:   " + result.originalData());
         System.out.println("Encoded:         " + result.encoded());
         System.out.println("After channel:   " + result.received());
         System.out.println("Channel error:   " + (result.channelIntroducedError() ? "YES" : "NO"));
-        System.out.println("Decoded data:    " + result.decodingOutcome().dataBits());
+        System.out.println("Decoded data:    " + decodedBits.substring(0, Math.min(decodedBits.length(), dataBits.length())));
         System.out.println("Error detected:  " + result.decodingOutcome().errorDetected());
         System.out.println("Error corrected: " + result.decodingOutcome().errorCorrected());
     }
@@ -112,6 +145,132 @@ public final class Main {
         TransmissionStatistics stats = simulator.runDefaultTest(code, channel, dataBits);
 
         System.out.println("Test mode: 1000 packets");
+        printStatistics(stats);
+    }
+
+    private static void runParallelTest(
+            Scanner scanner,
+            TransmissionSimulator simulator,
+            ErrorControlCode code,
+            double probability
+    ) {
+        var dataBits = readDataBits(scanner, code);
+        var packetCount = readPositiveInt(scanner, "Number of packets: ");
+        var seed = System.nanoTime();
+        var accumulator = new StatisticsAccumulator();
+        TransmissionStatistics stats;
+        try (var progress = Executors.newSingleThreadScheduledExecutor()) {
+            progress.scheduleAtFixedRate(
+                    () -> {
+                        try {
+                            printProgress(accumulator.snapshot(), packetCount);
+                        } catch (RuntimeException e) {
+                            System.err.println("Could not report progress: " + e.getMessage());
+                        }
+                    },
+                    1,
+                    1,
+                    TimeUnit.SECONDS
+            );
+            stats = simulator.runParallelTest(
+                    code,
+                    Interleaver.none(),
+                    ChannelModel.binarySymmetric(probability),
+                    dataBits,
+                    packetCount,
+                    seed,
+                    Runtime.getRuntime().availableProcessors(),
+                    accumulator
+            );
+        }
+
+        System.out.println("Parallel test mode: " + packetCount + " packets, seed " + seed);
+        printStatistics(stats);
+    }
+
+    private static void printProgress(SimulationSnapshot snapshot, long packetCount) {
+        var undetected = snapshot.undetectedErrorRate();
+        System.out.printf(
+                "Progress: %5.1f%%  %.0f packets/s  undetected %.3e [%.3e, %.3e]%n",
+                snapshot.progress(packetCount) * 100.0,
+                snapshot.packetsPerSecond(),
+                undetected.estimate(),
+                undetected.lower(),
+                undetected.upper()
+        );
+    }
+
+    private static void runImportanceSampling(
+            Scanner scanner,
+            TransmissionSimulator simulator,
+            ErrorControlCode code,
+            double probability
+    ) {
+        var dataBits = readDataBits(scanner, code);
+        System.out.println("Biased channel for sampling:");
+        var biasedProbability = readErrorProbability(scanner);
+        var packetCount = readPositiveInt(scanner, "Number of packets: ");
+        var seed = System.nanoTime();
+        var result = simulator.runImportanceSampling(
+                code,
+                probability,
+                biasedProbability,
+                dataBits,
+                packetCount,
+                seed,
+                Runtime.getRuntime().availableProcessors()
+        );
+
+        System.out.println("Importance sampling: " + packetCount + " packets, seed " + seed);
+        printRate("Channel error rate:     ", result.channelErrorRate());
+        printRate("Detected error rate:    ", result.detectedErrorRate());
+        printRate("Undetected error rate:  ", result.undetectedErrorRate());
+    }
+
+    private static void runAdaptiveTest(
+            Scanner scanner,
+            TransmissionSimulator simulator,
+            ErrorControlCode code,
+            double probability
+    ) {
+        var dataBits = readDataBits(scanner, code);
+        var precision = readPositiveInt(scanner, "Target relative precision of undetected rate in percent: ");
+        var maxPackets = readPositiveInt(scanner, "Packet budget: ");
+        var maxSeconds = readPositiveInt(scanner, "Time budget in seconds: ");
+        var seed = System.nanoTime();
+        var result = simulator.runUntilConverged(
+                code,
+                ChannelModel.binarySymmetric(probability),
+                dataBits,
+                new StoppingCriteria(
+                        ConvergenceTarget.UNDETECTED_ERRORS,
+                        precision / 100.0,
+                        maxPackets,
+                        Duration.ofSeconds(maxSeconds)
+                ),
+                seed,
+                Runtime.getRuntime().availableProcessors()
+        );
+
+        System.out.println("Adaptive test mode: stopped with " + result.stopReason() + ", seed " + seed);
+        System.out.printf("Elapsed: %.3f s%n", result.snapshot().elapsed().toNanos() / 1e9);
+        printStatistics(result.statistics());
+        printRate("Detected error rate:    ", result.snapshot().detectedErrorRate());
+        printRate("Undetected error rate:  ", result.snapshot().undetectedErrorRate());
+    }
+
+    private static void printRate(String label, RateEstimate rate) {
+        System.out.printf(
+                "%s%.6e  95%% CI [%.6e, %.6e]  (%d hits)%n",
+                label,
+                rate.estimate(),
+                rate.lower(),
+                rate.upper(),
+                rate.hits()
+        );
+    }
+
+    private static void printStatistics(TransmissionStatistics stats) {
         System.out.println("Total packets:          " + stats.totalPackets());
         System.out.println("Packets with errors:    " + stats.channelErrors());
         System.out.println("Detected errors:        " + stats.detectedErrors());
@@ -120,23 +279,35 @@ public final class Main {
         System.out.println("False alarms (no error, detected): " + stats.falseAlarms());
     }
 
+    private static int readPositiveInt(Scanner scanner, String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            var line = scanner.nextLine().trim();
+            try {
+                var value = Integer.parseInt(line);
+                if (value > 0) {
+                    return value;
+                }
+                System.out.println("Value must be positive");
+            } catch (NumberFormatException _) {
+                System.out.println("Invalid number");
+            }
+        }
+    }
+
     private static String readDataBits(Scanner scanner, ErrorControlCode code) {
         while (true) {
-            if (code instanceof HammingCode) {
-                System.out.print("Enter 4 data bits for Hamming(7,4): ");
-            } else {
-                System.out.print("Enter binary data for CRC-8: ");
+            switch (code) {
+                case BlockCode block -> System.out.print(
+                        "Enter binary data for " + code.name()
+                                + " (split into " + block.dataLength() + "-bit blocks, last one zero-padded): "
+                );
+                case CrcCode _ -> System.out.print("Enter binary data for " + code.name() + ": ");
             }
             var data = scanner.nextLine().trim();
 
-            var isHamming = code instanceof HammingCode;
-            var isBinary = data.matches("[01]+");
-            var lengthOk = !isHamming || data.length() == 4;
-
-            if (!isBinary) {
-                System.out.println("Data must be a binary string (0/1 only)");
-            } else if (!lengthOk) {
-                System.out.println("Hamming(7,4) requires exactly 4 bits");
+            if (data.isEmpty() || !BitBuffer.isBinary(data)) {
+                System.out.println("Data must be a non-empty binary string (0/1 only)");
             } else {
                 return data;
             }
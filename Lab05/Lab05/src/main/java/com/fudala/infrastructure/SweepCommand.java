@@ -0,0 +1,198 @@
+package com.fudala.infrastructure;
+
+import com.fudala.application.SweepPlan;
+import com.fudala.application.TransmissionSweep;
+import com.fudala.domain.CrcCode;
+import com.fudala.domain.CrcParameters;
+import com.fudala.domain.ErrorControlCode;
+import com.fudala.domain.ExtendedHammingCode;
+import com.fudala.domain.HammingCode;
+import com.fudala.domain.ReedSolomonCode;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+@SuppressWarnings("java:S106")
+public final class SweepCommand {
+
+    private static final String USAGE = """
+            Usage: SweepCommand --codes <list> --probabilities <list|start:end:count> --lengths <list>
+                                [--packets <n>] [--seed <n>] [--parallelism <n>] [--format csv|json] [--output <file>]
+              codes: hamming[:m], secded[:m], rs[:n:k], crc[:polynomial], crc-8, crc-16/arc, crc-16/ccitt-false,
+                     crc-32, crc-32c, crc-64/ecma-182
+              start:end:count produces count logarithmically spaced probabilities""";
+    private static final List<CrcParameters> CRC_PROFILES = List.of(
+            CrcParameters.CRC_8,
+            CrcParameters.CRC_16_ARC,
+            CrcParameters.CRC_16_CCITT_FALSE,
+            CrcParameters.CRC_32,
+            CrcParameters.CRC_32C,
+            CrcParameters.CRC_64_ECMA_182
+    );
+    private static final int DEFAULT_PACKETS = 100_000;
+    private static final MathContext RANGE_PRECISION = new MathContext(6);
+
+    private SweepCommand() {
+    }
+
+    static void main(String[] args) {
+        try {
+            run(parseOptions(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Could not write sweep results: " + e.getMessage());
+        }
+    }
+
+    private static void run(Map<String, String> options) throws IOException {
+        var plan = new SweepPlan(
+                parseList(required(options, "codes"), SweepCommand::parseCode),
+                parseProbabilities(required(options, "probabilities")),
+                parseList(required(options, "lengths"), SweepCommand::parsePositiveInt),
+                parsePositiveInt(options.getOrDefault("packets", Integer.toString(DEFAULT_PACKETS))),
+                Long.parseLong(options.getOrDefault("seed", Long.toString(System.nanoTime())))
+        );
+        var parallelism = parsePositiveInt(
+                options.getOrDefault("parallelism", Integer.toString(Runtime.getRuntime().availableProcessors()))
+        );
+        var format = SweepFormat.valueOf(options.getOrDefault("format", "csv").toUpperCase(Locale.ROOT));
+
+        try (var writer = SweepWriter.create(format, openOutput(options.get("output")))) {
+            new TransmissionSweep().run(plan, parallelism, point -> {
+                try {
+                    writer.write(point);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static Writer openOutput(String output) throws IOException {
+        if (output == null || "-".equals(output)) {
+            return new OutputStreamWriter(System.out, StandardCharsets.UTF_8) {
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+        }
+        return Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        var options = new HashMap<String, String>();
+        for (var i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Invalid argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        var value = options.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing required option --" + name);
+        }
+        return value;
+    }
+
+    private static <T> List<T> parseList(String value, Function<String, T> parser) {
+        var items = new ArrayList<T>();
+        for (var token : value.split(",")) {
+            items.add(parser.apply(token.trim()));
+        }
+        return items;
+    }
+
+    private static List<Double> parseProbabilities(String value) {
+        var range = value.split(":");
+        if (range.length == 1) {
+            return parseList(value, SweepCommand::parseDouble);
+        }
+        if (range.length != 3) {
+            throw new IllegalArgumentException("Probability range must be start:end:count");
+        }
+        var start = parseDouble(range[0]);
+        var end = parseDouble(range[1]);
+        var count = parsePositiveInt(range[2]);
+        if (!(start > 0.0 && end > 0.0)) {
+            throw new IllegalArgumentException("Logarithmic range bounds must be positive");
+        }
+        var probabilities = new ArrayList<Double>(count);
+        for (var i = 0; i < count; i++) {
+            var fraction = count == 1 ? 0.0 : (double) i / (count - 1);
+            var probability = start * Math.pow(end / start, fraction);
+            probabilities.add(new BigDecimal(probability).round(RANGE_PRECISION).doubleValue());
+        }
+        return probabilities;
+    }
+
+    private static ErrorControlCode parseCode(String token) {
+        var name = token.toLowerCase(Locale.ROOT);
+        var separator = name.indexOf(':');
+        var family = separator < 0 ? name : name.substring(0, separator);
+        var argument = separator < 0 ? null : name.substring(separator + 1);
+        return switch (family) {
+            case "hamming" -> argument == null ? new HammingCode() : new HammingCode(parsePositiveInt(argument));
+            case "secded" -> argument == null
+                    ? new ExtendedHammingCode()
+                    : new ExtendedHammingCode(parsePositiveInt(argument));
+            case "rs" -> argument == null ? new ReedSolomonCode() : parseReedSolomon(argument);
+            case "crc" -> argument == null ? new CrcCode() : new CrcCode(argument);
+            default -> CRC_PROFILES.stream()
+                    .filter(parameters -> parameters.name().equalsIgnoreCase(token))
+                    .findFirst()
+                    .map(parameters -> (ErrorControlCode) new CrcCode(parameters))
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown code: " + token));
+        };
+    }
+
+    private static ReedSolomonCode parseReedSolomon(String argument) {
+        var separator = argument.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Reed-Solomon code must be given as rs:n:k");
+        }
+        return new ReedSolomonCode(
+                parsePositiveInt(argument.substring(0, separator)),
+                parsePositiveInt(argument.substring(separator + 1))
+        );
+    }
+
+    private static int parsePositiveInt(String value) {
+        try {
+            var parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException("Value must be positive: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException _) {
+            throw new IllegalArgumentException("Invalid number: " + value);
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException _) {
+            throw new IllegalArgumentException("Invalid number: " + value);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.fudala.infrastructure;
+
+public enum SweepFormat {
+    CSV,
+    JSON
+}
@@ -0,0 +1,21 @@
+package com.fudala.infrastructure;
+
+import com.fudala.application.SweepPoint;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+public sealed interface SweepWriter extends Closeable permits CsvSweepWriter, JsonSweepWriter {
+    void write(SweepPoint point) throws IOException;
+
+    static SweepWriter create(SweepFormat format, Writer output) throws IOException {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(output, "output must not be null");
+        return switch (format) {
+            case CSV -> new CsvSweepWriter(output);
+            case JSON -> new JsonSweepWriter(output);
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.fudala.application;
+
+import com.fudala.domain.BlockInterleaver;
+import com.fudala.domain.ChannelModel;
+import com.fudala.domain.CrcCode;
+import com.fudala.domain.CrcParameters;
+import com.fudala.domain.ExtendedHammingCode;
+import com.fudala.domain.HammingCode;
+import com.fudala.domain.Interleaver;
+import com.fudala.domain.ReedSolomonCode;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveSimulationTests {
+    private static final String DATA_BITS = "1011001110001111010101100011100010110011100011110101011000111000";
+    private static final int PARALLELISM = 4;
+
+    @Test
+    public void stopsOnceTargetPrecisionIsReached() {
+        var criteria = new StoppingCriteria(ConvergenceTarget.DETECTED_ERRORS, 0.05, 50_000_000, Duration.ofMinutes(1));
+
+        var result = new TransmissionSimulator().runUntilConverged(
+                new HammingCode(3), ChannelModel.binarySymmetric(0.05), "1011", criteria, 81, PARALLELISM);
+
+        assertEquals(StopReason.CONVERGED, result.stopReason());
+        assertTrue(result.snapshot().detectedErrorRate().relativeHalfWidth() <= 0.05);
+        assertTrue(result.statistics().totalPackets() < criteria.maxPackets());
+    }
+
+    @Test
+    public void stopsExactlyAtPacketBudget() {
+        var criteria = new StoppingCriteria(ConvergenceTarget.UNDETECTED_ERRORS, 0.01, 50_001, Duration.ofMinutes(1));
+
+        var result = new TransmissionSimulator().runUntilConverged(
+                new CrcCode(CrcParameters.CRC_32), ChannelModel.binarySymmetric(1e-4), DATA_BITS, criteria, 82, PARALLELISM);
+
+        assertEquals(StopReason.PACKET_BUDGET_EXHAUSTED, result.stopReason());
+        assertEquals(50_001, result.statistics().totalPackets());
+        assertEquals(50_001, result.snapshot().statistics().totalPackets());
+    }
+
+    @Test
+    public void stopsCloseToTimeBudget() {
+        var maxDuration = Duration.ofSeconds(1);
+        var criteria = new StoppingCriteria(ConvergenceTarget.UNDETECTED_ERRORS, 0.01, Long.MAX_VALUE, maxDuration);
+
+        var result = new TransmissionSimulator().runUntilConverged(
+                new ReedSolomonCode(), ChannelModel.binarySymmetric(1e-3), DATA_BITS.repeat(20), criteria, 83, PARALLELISM);
+
+        assertEquals(StopReason.TIME_BUDGET_EXHAUSTED, result.stopReason());
+        var elapsed = result.snapshot().elapsed();
+        assertTrue(elapsed.compareTo(maxDuration) >= 0);
+        assertTrue("overran the time budget: " + elapsed, elapsed.compareTo(maxDuration.plusMillis(200)) < 0);
+    }
+
+    @Test
+    public void appliesTheRequestedInterleaver() {
+        var code = new ExtendedHammingCode(3);
+        var data = DATA_BITS.substring(0, 64);
+        var criteria = new StoppingCriteria(ConvergenceTarget.UNDETECTED_ERRORS, 0.01, 200_000, Duration.ofMinutes(1));
+        var channel = ChannelModel.burst(0.001, 4);
+        var simulator = new TransmissionSimulator();
+
+        var plain = simulator.runUntilConverged(code, Interleaver.none(), channel, data, criteria, 84, PARALLELISM).statistics();
+        var interleaved = simulator.runUntilConverged(code, new BlockInterleaver(4, 32), channel, data, criteria, 84, PARALLELISM).statistics();
+
+        var plainUncorrected = plain.detectedErrors() - plain.correctedErrors();
+        var interleavedUncorrected = interleaved.detectedErrors() - interleaved.correctedErrors();
+        assertTrue(plain.channelErrors() > 10_000);
+        assertTrue(plainUncorrected + " vs " + interleavedUncorrected, interleavedUncorrected * 5 < plainUncorrected);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fudala.application;
+
+import com.fudala.domain.CrcCode;
+import com.fudala.domain.ExtendedHammingCode;
+import com.fudala.domain.HammingCode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public final class ErrorPatternEnumeratorTests {
+
+    @Test
+    public void hammingSevenFourCorrectsEverySingleErrorAndMissesOnlyCodewords() {
+        var spectrum = new ErrorPatternEnumerator().enumerate(new HammingCode(3), "1011", 7, 2);
+
+        assertEquals(7, spectrum.codewordLength());
+        assertEquals(7, spectrum.maxWeight());
+        for (var weight = 1; weight <= 7; weight++) {
+            assertEquals(binomial(7, weight), spectrum.weights().get(weight - 1).patterns());
+        }
+        assertEquals(new WeightCounts(1, 7, 7, 7, 0), spectrum.weights().get(0));
+        assertEquals(0, spectrum.weights().get(1).undetected());
+        assertEquals(7, spectrum.weights().get(2).undetected());
+        assertEquals(7, spectrum.weights().get(3).undetected());
+        assertEquals(new WeightCounts(7, 1, 0, 0, 1), spectrum.weights().get(6));
+    }
+
+    @Test
+    public void extendedHammingDetectsEveryDoubleError() {
+        var spectrum = new ErrorPatternEnumerator().enumerate(new ExtendedHammingCode(3), "0110", 3, 4);
+
+        assertEquals(new WeightCounts(1, 8, 8, 8, 0), spectrum.weights().get(0));
+        assertEquals(new WeightCounts(2, 28, 28, 0, 0), spectrum.weights().get(1));
+        assertEquals(binomial(8, 3), spectrum.weights().get(2).patterns());
+    }
+
+    @Test
+    public void crcSpectrumCountsEveryPatternPerWeight() {
+        var code = new CrcCode("10011");
+        var spectrum = new ErrorPatternEnumerator().enumerate(code, "1101011011", 14, 3);
+        var totalUndetected = 0L;
+
+        for (var weight = 1; weight <= 14; weight++) {
+            var counts = spectrum.weights().get(weight - 1);
+            assertEquals(weight, counts.weight());
+            assertEquals(binomial(14, weight), counts.patterns());
+            assertEquals(counts.patterns(), counts.detected() + counts.undetected());
+            assertEquals(0, counts.corrected());
+            totalUndetected += counts.undetected();
+        }
+        assertEquals(0, spectrum.weights().get(0).undetected());
+        assertEquals(0, spectrum.weights().get(1).undetected());
+        assertEquals((1L << (14 - 4)) - 1, totalUndetected);
+    }
+
+    @Test
+    public void resultsDoNotDependOnParallelism() {
+        var code = new HammingCode(4);
+        var data = "10110011101";
+        var sequential = new ErrorPatternEnumerator().enumerate(code, data, 4, 1);
+        var parallel = new ErrorPatternEnumerator().enumerate(code, data, 4, 8);
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void exactRatesSumToChannelErrorRateWhenFullyEnumerated() {
+        var spectrum = new ErrorPatternEnumerator().enumerate(new HammingCode(3), "1011", 7, 2);
+        var rates = spectrum.rates(0.1);
+        var channelErrors = 1 - Math.pow(0.9, 7);
+
+        assertEquals(channelErrors, rates.channelErrorRate(), 1e-12);
+        assertEquals(channelErrors, rates.detectedErrorRate() + rates.undetectedErrorRate(), 1e-12);
+        assertEquals(0.0, rates.truncatedProbability(), 1e-12);
+
+        var truncated = new ErrorPatternEnumerator().enumerate(new HammingCode(3), "1011", 1, 2).rates(0.1);
+        assertEquals(channelErrors - 7 * 0.1 * Math.pow(0.9, 6), truncated.truncatedProbability(), 1e-12);
+    }
+
+    @Test
+    public void rejectsOutOfRangeWeights() {
+        var enumerator = new ErrorPatternEnumerator();
+
+        assertThrows(IllegalArgumentException.class, () -> enumerator.enumerate(new HammingCode(3), "1011", 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> enumerator.enumerate(new HammingCode(3), "1011", 8, 1));
+    }
+
+    private static long binomial(int n, int k) {
+        var result = 1L;
+        for (var i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fudala.application;
+
+import com.fudala.domain.BlockInterleaver;
+import com.fudala.domain.ChannelModel;
+import com.fudala.domain.HammingCode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public final class FramePoolTests {
+
+    @Test
+    public void reusesWorkspacesOfTheSameFrameLength() {
+        var pool = new FramePool();
+        var workspace = pool.acquire(128);
+        pool.release(workspace);
+
+        assertSame(workspace, pool.acquire(128));
+    }
+
+    @Test
+    public void reallocatesWorkspacesOfAnotherFrameLength() {
+        var pool = new FramePool();
+        var small = pool.acquire(7);
+        pool.release(small);
+
+        var large = pool.acquire(1024);
+
+        assertNotSame(small, large);
+        assertEquals(1024, large.frameLength);
+        assertEquals(1024, large.received.length());
+        assertEquals(1024, large.deinterleaved.length());
+    }
+
+    @Test
+    public void simulatorResultsDoNotDependOnPooledFrameLengths() {
+        var code = new HammingCode(3);
+        var interleaver = new BlockInterleaver(7, 8);
+        var channel = ChannelModel.burst(0.002, 3);
+        var data = "1011".repeat(64);
+        var reused = new TransmissionSimulator();
+        reused.runParallelTest(code, interleaver, channel, "1011", 10_000, 1, 2);
+
+        assertEquals(
+                new TransmissionSimulator().runParallelTest(code, interleaver, channel, data, 10_000, 2, 2),
+                reused.runParallelTest(code, interleaver, channel, data, 10_000, 2, 2)
+        );
+    }
+}
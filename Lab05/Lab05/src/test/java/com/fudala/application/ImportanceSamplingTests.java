@@ -0,0 +1,77 @@
+package com.fudala.application;
+
+import com.fudala.domain.ChannelModel;
+import com.fudala.domain.CrcCode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class ImportanceSamplingTests {
+    private static final String DATA_BITS = "101100111000";
+    private static final double BIT_ERROR_PROBABILITY = 0.02;
+    private static final int PARALLELISM = 4;
+
+    @Test
+    public void importanceSamplingAgreesWithPlainMonteCarloAndExactRates() {
+        var code = new CrcCode("10011");
+        var simulator = new TransmissionSimulator();
+        var frameLength = code.encodedLength(DATA_BITS.length());
+        var exact = new ErrorPatternEnumerator()
+                .enumerate(code, DATA_BITS, frameLength, PARALLELISM)
+                .rates(BIT_ERROR_PROBABILITY);
+
+        var plain = simulator.runParallelTest(
+                code,
+                ChannelModel.binarySymmetric(BIT_ERROR_PROBABILITY),
+                DATA_BITS,
+                2_000_000,
+                71,
+                PARALLELISM
+        );
+        var plainUndetected = RateEstimate.wilson(plain.undetectedErrors(), plain.totalPackets());
+        var weighted = simulator.runImportanceSampling(
+                code,
+                BIT_ERROR_PROBABILITY,
+                0.25,
+                DATA_BITS,
+                200_000,
+                72,
+                PARALLELISM
+        );
+        var undetected = weighted.undetectedErrorRate();
+
+        assertTrue("plain Monte Carlo should observe undetected errors", plain.undetectedErrors() > 100);
+        assertEquals(exact.undetectedErrorRate(), plainUndetected.estimate(), 4 * plainUndetected.standardError());
+        assertEquals(exact.undetectedErrorRate(), undetected.estimate(), 4 * undetected.standardError());
+        assertEquals(plainUndetected.estimate(), undetected.estimate(),
+                4 * Math.hypot(plainUndetected.standardError(), undetected.standardError()));
+        assertTrue("importance sampling should need fewer packets for the same precision",
+                undetected.standardError() * Math.sqrt(weighted.totalPackets())
+                        < plainUndetected.standardError() * Math.sqrt(plain.totalPackets()));
+
+        var channel = weighted.channelErrorRate();
+        assertEquals(exact.channelErrorRate(), channel.estimate(), 4 * channel.standardError());
+        assertEquals(exact.detectedErrorRate(), weighted.detectedErrorRate().estimate(),
+                4 * weighted.detectedErrorRate().standardError());
+    }
+
+    @Test
+    public void unbiasedSamplingReproducesPlainWeights() {
+        var code = new CrcCode("10011");
+        var weighted = new TransmissionSimulator().runImportanceSampling(
+                code,
+                BIT_ERROR_PROBABILITY,
+                BIT_ERROR_PROBABILITY,
+                DATA_BITS,
+                100_000,
+                73,
+                PARALLELISM
+        );
+        var channel = weighted.channelErrorRate();
+
+        assertEquals((double) channel.hits() / weighted.totalPackets(), channel.estimate(), 1e-12);
+        assertEquals(channel.estimate(),
+                weighted.detectedErrorRate().estimate() + weighted.undetectedErrorRate().estimate(), 1e-12);
+    }
+}
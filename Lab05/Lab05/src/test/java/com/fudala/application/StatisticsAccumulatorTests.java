@@ -0,0 +1,38 @@
+package com.fudala.application;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class StatisticsAccumulatorTests {
+    private static final int WRITES = 2_000_000;
+
+    @Test
+    public void concurrentSnapshotsNeverSeeMoreErrorsThanPackets() throws InterruptedException {
+        var accumulator = new StatisticsAccumulator();
+        var done = new AtomicBoolean();
+        var writer = Thread.ofPlatform().start(() -> {
+            for (var i = 0; i < WRITES; i++) {
+                accumulator.add(1, 1, 1, 0, 1, 0);
+            }
+            done.set(true);
+        });
+
+        var snapshots = 0L;
+        while (!done.get()) {
+            var snapshot = accumulator.snapshot();
+            var statistics = snapshot.statistics();
+            assertTrue(statistics.channelErrors() <= statistics.totalPackets());
+            assertTrue(statistics.undetectedErrors() <= statistics.totalPackets());
+            snapshots++;
+        }
+        writer.join();
+
+        assertTrue(snapshots > 0);
+        assertEquals(WRITES, accumulator.statistics().totalPackets());
+        assertEquals(WRITES, accumulator.statistics().channelErrors());
+    }
+}
@@ -0,0 +1,95 @@
+package com.fudala.application;
+
+import com.fudala.domain.BlockInterleaver;
+import com.fudala.domain.CrcCode;
+import com.fudala.domain.ErrorControlCode;
+import com.fudala.domain.ErrorInjection;
+import com.fudala.domain.ExtendedHammingCode;
+import com.fudala.domain.HammingCode;
+import com.fudala.domain.Interleaver;
+import com.fudala.domain.RandomBitErrorChannel;
+import com.fudala.domain.ReedSolomonCode;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class TransmissionSimulatorAllocationTests {
+    private static final String DATA_BITS = "1011001110001111010101100011100010110011100011110101011000111000";
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int SHORT_RUN_PACKETS = 1_000;
+    private static final int LONG_RUN_PACKETS = 101_000;
+
+    @Test
+    public void hammingRunAllocatesNothingPerPacket() {
+        assertSteadyStateAllocationFree(new HammingCode(4), Interleaver.none(), ErrorInjection.PER_BIT);
+    }
+
+    @Test
+    public void extendedHammingRunAllocatesNothingPerPacket() {
+        assertSteadyStateAllocationFree(new ExtendedHammingCode(4), Interleaver.none(), ErrorInjection.GEOMETRIC_SKIP);
+    }
+
+    @Test
+    public void crcRunAllocatesNothingPerPacket() {
+        assertSteadyStateAllocationFree(new CrcCode(), Interleaver.none(), ErrorInjection.PER_BIT);
+    }
+
+    @Test
+    public void reedSolomonRunAllocatesNothingPerPacket() {
+        assertSteadyStateAllocationFree(new ReedSolomonCode(15, 11), Interleaver.none(), ErrorInjection.PER_BIT);
+    }
+
+    @Test
+    public void interleavedRunAllocatesNothingPerPacket() {
+        assertSteadyStateAllocationFree(new HammingCode(3), new BlockInterleaver(8, 8), ErrorInjection.GEOMETRIC_SKIP);
+    }
+
+    private static void assertSteadyStateAllocationFree(
+            ErrorControlCode code,
+            Interleaver interleaver,
+            ErrorInjection injection
+    ) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        var simulator = new TransmissionSimulator();
+
+        for (var round = 0; round < WARM_UP_ROUNDS; round++) {
+            run(simulator, code, interleaver, injection, LONG_RUN_PACKETS);
+        }
+
+        var shortRun = allocatedBytes(threads, simulator, code, interleaver, injection, SHORT_RUN_PACKETS);
+        var longRun = allocatedBytes(threads, simulator, code, interleaver, injection, LONG_RUN_PACKETS);
+
+        assertEquals(shortRun, longRun);
+    }
+
+    private static long allocatedBytes(
+            com.sun.management.ThreadMXBean threads,
+            TransmissionSimulator simulator,
+            ErrorControlCode code,
+            Interleaver interleaver,
+            ErrorInjection injection,
+            int packetCount
+    ) {
+        var before = threads.getCurrentThreadAllocatedBytes();
+        run(simulator, code, interleaver, injection, packetCount);
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static void run(
+            TransmissionSimulator simulator,
+            ErrorControlCode code,
+            Interleaver interleaver,
+            ErrorInjection injection,
+            int packetCount
+    ) {
+        var channel = new RandomBitErrorChannel(1e-2, new SplittableRandom(42), injection);
+        var statistics = simulator.runTest(code, interleaver, channel, DATA_BITS, packetCount);
+        assertEquals(packetCount, statistics.totalPackets());
+    }
+}
@@ -0,0 +1,124 @@
+package com.fudala.domain;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ChannelModelTests {
+    private static final int FRAME_BITS = 100_000;
+    private static final int FRAMES = 200;
+    private static final double TOTAL_BITS = (double) FRAME_BITS * FRAMES;
+
+    @Test
+    public void binarySymmetricChannelFlipsAtConfiguredRate() {
+        var channel = ChannelModel.binarySymmetric(0.01).open(new SplittableRandom(41));
+        var bits = new BitBuffer(FRAME_BITS);
+        var flipped = 0L;
+        for (var frame = 0; frame < FRAMES; frame++) {
+            bits.clear();
+            var count = channel.transmit(bits);
+            assertEquals(bits.cardinality(), count);
+            flipped += count;
+        }
+
+        assertEquals(0.01, flipped / TOTAL_BITS, 0.01 * 0.03);
+    }
+
+    @Test
+    public void gilbertElliottMatchesStationaryErrorRateAndClusters() {
+        var goodToBad = 0.01;
+        var badToGood = 0.1;
+        var goodError = 0.001;
+        var badError = 0.3;
+        var badShare = goodToBad / (goodToBad + badToGood);
+        var expected = badShare * badError + (1 - badShare) * goodError;
+        var channel = ChannelModel.gilbertElliott(goodToBad, badToGood, goodError, badError).open(new SplittableRandom(42));
+        var bits = new BitBuffer(FRAME_BITS);
+        var flipped = 0L;
+        var pairs = 0L;
+        for (var frame = 0; frame < FRAMES; frame++) {
+            bits.clear();
+            var count = channel.transmit(bits);
+            assertEquals(bits.cardinality(), count);
+            flipped += count;
+            for (var i = 1; i < FRAME_BITS; i++) {
+                if (bits.get(i - 1) && bits.get(i)) {
+                    pairs++;
+                }
+            }
+        }
+
+        assertEquals(expected, flipped / TOTAL_BITS, expected * 0.05);
+        var followUp = (double) pairs / flipped;
+        assertTrue("errors should cluster, P(error | previous error) = " + followUp, followUp > 5 * expected);
+    }
+
+    @Test
+    public void gilbertElliottWithoutTransitionsStaysGood() {
+        var channel = new GilbertElliottChannel(0.0, 0.5, 0.002, 1.0, new SplittableRandom(43));
+        var bits = new BitBuffer(FRAME_BITS);
+        var flipped = 0L;
+        for (var frame = 0; frame < FRAMES; frame++) {
+            bits.clear();
+            flipped += channel.transmit(bits);
+            assertFalse(channel.inBadState());
+        }
+
+        assertEquals(0.002, flipped / TOTAL_BITS, 0.002 * 0.05);
+    }
+
+    @Test
+    public void burstChannelFlipsWholeBurstsAtExpectedDensity() {
+        var burstProbability = 0.001;
+        var burstLength = 16;
+        var meanGap = (1 - burstProbability) / burstProbability;
+        var expected = burstLength / (burstLength + meanGap);
+        var channel = ChannelModel.burst(burstProbability, burstLength).open(new SplittableRandom(44));
+        var bits = new BitBuffer(FRAME_BITS);
+        var flipped = 0L;
+        for (var frame = 0; frame < FRAMES; frame++) {
+            bits.clear();
+            var count = channel.transmit(bits);
+            assertEquals(bits.cardinality(), count);
+            flipped += count;
+            var run = 0;
+            for (var i = 0; i < FRAME_BITS; i++) {
+                if (bits.get(i)) {
+                    run++;
+                } else if (run > 0) {
+                    assertEquals("burst runs are whole bursts", 0, run % burstLength);
+                    run = 0;
+                }
+            }
+        }
+
+        assertEquals(expected, flipped / TOTAL_BITS, expected * 0.05);
+    }
+
+    @Test
+    public void erasureChannelMarksErasuresAndFlipsHalfOfThem() {
+        var channel = new ErasureChannel(0.05, new SplittableRandom(45));
+        var bits = new BitBuffer(FRAME_BITS);
+        var erasures = new BitBuffer(0);
+        var erased = 0L;
+        var flipped = 0L;
+        for (var frame = 0; frame < FRAMES; frame++) {
+            bits.clear();
+            var count = channel.transmit(bits, erasures);
+            assertEquals(FRAME_BITS, erasures.length());
+            assertEquals(bits.cardinality(), count);
+            for (var i = 0; i < FRAME_BITS; i++) {
+                assertTrue("flips only happen on erased bits", !bits.get(i) || erasures.get(i));
+            }
+            erased += erasures.cardinality();
+            flipped += count;
+        }
+
+        assertEquals(0.05, erased / TOTAL_BITS, 0.05 * 0.02);
+        assertEquals(0.5, flipped / (double) erased, 0.01);
+    }
+}
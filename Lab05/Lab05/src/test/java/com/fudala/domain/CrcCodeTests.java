@@ -0,0 +1,106 @@
+package com.fudala.domain;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class CrcCodeTests {
+    private static final CrcAlgorithm[] TABLE_ALGORITHMS = {
+            CrcAlgorithm.BITWISE, CrcAlgorithm.TABLE, CrcAlgorithm.SLICE_BY_4, CrcAlgorithm.SLICE_BY_8
+    };
+
+    @Test
+    public void encodingMatchesBitSerialLongDivision() {
+        var random = new SplittableRandom(11);
+        var polynomials = new String[]{
+                "1011",
+                "100000111",
+                "11000000000000101",
+                "1" + "0".repeat(59) + "11011"
+        };
+        for (var polynomial : polynomials) {
+            var degree = polynomial.length() - 1;
+            var parameters = CrcParameters.ofPolynomial("CRC-" + degree, degree, Long.parseUnsignedLong(polynomial.substring(1), 2));
+            for (var length : new int[]{1, 5, 8, 13, 64, 67, 200, 1001}) {
+                var data = randomBits(random, length);
+                var expected = data + longDivisionRemainder(data, polynomial);
+                assertEquals(expected, new CrcCode(polynomial).encode(data));
+                for (var algorithm : TABLE_ALGORITHMS) {
+                    assertEquals(expected, new CrcCode(parameters, algorithm).encode(data));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void tableAlgorithmsAgreeOnUnalignedRanges() {
+        var random = new SplittableRandom(12);
+        var profiles = new CrcParameters[]{
+                CrcParameters.CRC_8,
+                CrcParameters.CRC_16_ARC,
+                CrcParameters.CRC_16_CCITT_FALSE,
+                CrcParameters.CRC_32,
+                CrcParameters.CRC_64_ECMA_182
+        };
+        var bits = BitBuffer.of(randomBits(random, 4096));
+        for (var parameters : profiles) {
+            var reference = CrcEngine.of(parameters, CrcAlgorithm.BITWISE);
+            for (var i = 0; i < 200; i++) {
+                var from = random.nextInt(64);
+                var length = random.nextInt(bits.length() - from);
+                var expected = reference.checksum(bits, from, length);
+                for (var algorithm : TABLE_ALGORITHMS) {
+                    assertEquals(parameters.name() + " " + algorithm + " [" + from + ", " + length + ")",
+                            expected, CrcEngine.of(parameters, algorithm).checksum(bits, from, length));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void decodingDetectsEverySingleAndDoubleBitError() {
+        var code = new CrcCode(CrcParameters.CRC_16_CCITT_FALSE, CrcAlgorithm.SLICE_BY_8);
+        var data = BitBuffer.of(randomBits(new SplittableRandom(13), 120));
+        var frame = new BitBuffer(code.encodedLength(data.length()));
+        code.encode(data, frame);
+        var decoded = new BitBuffer(0);
+
+        assertFalse(code.decode(frame, decoded).errorDetected());
+        assertEquals(data, decoded);
+        for (var first = 0; first < frame.length(); first++) {
+            frame.flip(first);
+            assertTrue(code.decode(frame, decoded).errorDetected());
+            for (var second = first + 1; second < frame.length(); second++) {
+                frame.flip(second);
+                assertTrue(code.decode(frame, decoded).errorDetected());
+                frame.flip(second);
+            }
+            frame.flip(first);
+        }
+    }
+
+    private static String longDivisionRemainder(String data, String polynomial) {
+        var degree = polynomial.length() - 1;
+        var dividend = (data + "0".repeat(degree)).toCharArray();
+        for (var i = 0; i < data.length(); i++) {
+            if (dividend[i] == '1') {
+                for (var j = 0; j <= degree; j++) {
+                    dividend[i + j] = dividend[i + j] == polynomial.charAt(j) ? '0' : '1';
+                }
+            }
+        }
+        return new String(dividend, data.length(), degree);
+    }
+
+    private static String randomBits(SplittableRandom random, int length) {
+        var bits = new StringBuilder(length);
+        for (var i = 0; i < length; i++) {
+            bits.append(random.nextBoolean() ? '1' : '0');
+        }
+        return bits.toString();
+    }
+}
@@ -0,0 +1,116 @@
+package com.fudala.domain;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public final class CrcEngineTests {
+    private static final byte[] CHECK_INPUT = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void sharesEnginesForEqualParameters() {
+        var first = CrcEngine.of(CrcParameters.CRC_32, CrcAlgorithm.SLICE_BY_8);
+        var second = CrcEngine.of(CrcParameters.CRC_32, CrcAlgorithm.SLICE_BY_8);
+
+        assertSame(first, second);
+        assertSame(new CrcCode(CrcParameters.CRC_32, CrcAlgorithm.SLICE_BY_8).engine(), first);
+        assertSame(new CrcCode("100000111").engine(), new CrcCode("100000111").engine());
+    }
+
+    @Test
+    public void cachedEnginesProduceStandardCheckValues() {
+        for (var algorithm : new CrcAlgorithm[]{CrcAlgorithm.BITWISE, CrcAlgorithm.TABLE, CrcAlgorithm.SLICE_BY_4, CrcAlgorithm.SLICE_BY_8}) {
+            assertEquals(0xF4L, CrcEngine.of(CrcParameters.CRC_8, algorithm).checksum(CHECK_INPUT));
+            assertEquals(0xBB3DL, CrcEngine.of(CrcParameters.CRC_16_ARC, algorithm).checksum(CHECK_INPUT));
+            assertEquals(0x29B1L, CrcEngine.of(CrcParameters.CRC_16_CCITT_FALSE, algorithm).checksum(CHECK_INPUT));
+            assertEquals(0xCBF43926L, CrcEngine.of(CrcParameters.CRC_32, algorithm).checksum(CHECK_INPUT));
+            assertEquals(0xE3069283L, CrcEngine.of(CrcParameters.CRC_32C, algorithm).checksum(CHECK_INPUT));
+            assertEquals(0x6C40DF5F0B497347L, CrcEngine.of(CrcParameters.CRC_64_ECMA_182, algorithm).checksum(CHECK_INPUT));
+        }
+    }
+
+    @Test
+    public void standardProfilesDefaultToIntrinsicImplementation() {
+        assertTrue(CrcEngine.supportsIntrinsic(CrcParameters.CRC_32));
+        assertTrue(CrcEngine.supportsIntrinsic(CrcParameters.CRC_32C));
+        assertFalse(CrcEngine.supportsIntrinsic(CrcParameters.CRC_16_ARC));
+        assertEquals(CrcAlgorithm.INTRINSIC, new CrcCode(CrcParameters.CRC_32C).engine().algorithm());
+        assertEquals(CrcAlgorithm.SLICE_BY_8, new CrcCode().engine().algorithm());
+        assertThrows(IllegalArgumentException.class, () -> CrcEngine.of(CrcParameters.CRC_8, CrcAlgorithm.INTRINSIC));
+    }
+
+    @Test
+    public void intrinsicEngineMatchesTableEngine() {
+        var random = new SplittableRandom(5);
+        for (var parameters : new CrcParameters[]{CrcParameters.CRC_32, CrcParameters.CRC_32C}) {
+            var intrinsic = CrcEngine.of(parameters, CrcAlgorithm.INTRINSIC);
+            var table = CrcEngine.of(parameters, CrcAlgorithm.SLICE_BY_8);
+            for (var length : new int[]{0, 1, 7, 64, 1500}) {
+                var data = new byte[length];
+                random.nextBytes(data);
+                var expected = table.checksum(data);
+                var direct = ByteBuffer.allocateDirect(length).put(data).flip();
+                var bits = BitBuffer.fromBytes(data, length * Byte.SIZE);
+
+                assertEquals(expected, intrinsic.checksum(data));
+                assertEquals(expected, intrinsic.checksum(direct));
+                assertEquals(expected, intrinsic.checksum(bits, 0, bits.length()));
+            }
+            var bits = BitBuffer.fromBytes(new byte[]{0x12, 0x34, 0x56, 0x78, (byte) 0x9A}, 40);
+            assertEquals(table.checksum(bits, 3, 37), intrinsic.checksum(bits, 3, 37));
+            assertEquals(table.checksum(bits, 4, 32), intrinsic.checksum(bits, 4, 32));
+        }
+    }
+
+    @Test
+    public void intrinsicChecksumsReuseThreadLocalState() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        var engine = CrcEngine.of(CrcParameters.CRC_32C, CrcAlgorithm.INTRINSIC);
+        var heap = ByteBuffer.wrap(CHECK_INPUT);
+        var direct = ByteBuffer.allocateDirect(CHECK_INPUT.length).put(CHECK_INPUT).flip();
+        var bits = BitBuffer.fromBytes(CHECK_INPUT, CHECK_INPUT.length * Byte.SIZE);
+        var sink = 0L;
+        for (var round = 0; round < 2; round++) {
+            var thread = Thread.currentThread().threadId();
+            var before = threads.getThreadAllocatedBytes(thread);
+            for (var i = 0; i < 10_000; i++) {
+                sink ^= engine.checksum(CHECK_INPUT);
+                sink ^= engine.checksum(heap.rewind());
+                sink ^= engine.checksum(direct.rewind());
+                sink ^= engine.checksum(bits, 0, bits.length());
+            }
+            if (round == 1) {
+                assertTrue(threads.getThreadAllocatedBytes(thread) - before < 10_000);
+            }
+        }
+        assertEquals(0L, sink);
+        assertEquals(0xE3069283L, engine.checksum(CHECK_INPUT));
+    }
+
+    @Test
+    public void intrinsicStateContinuesWithBitLevelUpdates() {
+        var intrinsic = CrcEngine.of(CrcParameters.CRC_32, CrcAlgorithm.INTRINSIC).newState();
+        var table = CrcEngine.of(CrcParameters.CRC_32, CrcAlgorithm.SLICE_BY_8).newState();
+        for (var state : new CrcState[]{intrinsic, table}) {
+            state.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+            state.updateBits(0b101L, 3);
+            state.update(CHECK_INPUT, 0, 4);
+        }
+
+        assertEquals(table.getValue(), intrinsic.getValue());
+        intrinsic.reset();
+        intrinsic.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+        assertEquals(0xCBF43926L, intrinsic.getValue());
+    }
+}
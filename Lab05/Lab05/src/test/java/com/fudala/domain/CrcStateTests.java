@@ -0,0 +1,106 @@
+package com.fudala.domain;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public final class CrcStateTests {
+
+    @Test
+    public void chunkedUpdatesMatchOneShotChecksum() {
+        var random = new SplittableRandom(21);
+        var data = new byte[10_000];
+        random.nextBytes(data);
+        for (var parameters : new CrcParameters[]{CrcParameters.CRC_16_ARC, CrcParameters.CRC_32, CrcParameters.CRC_64_ECMA_182}) {
+            var engine = CrcEngine.of(parameters, CrcAlgorithm.SLICE_BY_8);
+            var expected = engine.checksum(data);
+            var state = engine.newState();
+            for (var round = 0; round < 20; round++) {
+                state.reset();
+                var offset = 0;
+                while (offset < data.length) {
+                    var length = Math.min(data.length - offset, random.nextInt(700));
+                    switch (random.nextInt(3)) {
+                        case 0 -> state.update(data, offset, length);
+                        case 1 -> state.update(ByteBuffer.wrap(data, offset, length));
+                        default -> {
+                            for (var i = offset; i < offset + length; i++) {
+                                state.update(data[i]);
+                            }
+                        }
+                    }
+                    offset += length;
+                }
+                assertEquals(expected, state.getValue());
+                assertEquals((long) data.length * Byte.SIZE, state.bitCount());
+            }
+        }
+    }
+
+    @Test
+    public void bitLevelUpdatesMatchBitBufferChecksum() {
+        var random = new SplittableRandom(22);
+        var data = new byte[256];
+        random.nextBytes(data);
+        var bits = BitBuffer.fromBytes(data, 2043);
+        for (var parameters : new CrcParameters[]{CrcParameters.CRC_16_CCITT_FALSE, CrcParameters.CRC_64_ECMA_182}) {
+            for (var algorithm : new CrcAlgorithm[]{CrcAlgorithm.BITWISE, CrcAlgorithm.TABLE, CrcAlgorithm.SLICE_BY_8}) {
+                var engine = CrcEngine.of(parameters, algorithm);
+                var state = engine.newState();
+                var position = 0;
+                while (position < bits.length()) {
+                    var count = Math.min(bits.length() - position, 1 + random.nextInt(Long.SIZE));
+                    if (random.nextBoolean()) {
+                        state.updateBits(bits.getBits(position, count), count);
+                    } else {
+                        state.update(bits, position, count);
+                    }
+                    position += count;
+                }
+                assertEquals(parameters.name() + " " + algorithm, engine.checksum(bits, 0, bits.length()), state.getValue());
+                assertEquals(bits.length(), state.bitCount());
+            }
+        }
+    }
+
+    @Test
+    public void intrinsicStateMatchesOnByteAlignedBitUpdates() {
+        var random = new SplittableRandom(23);
+        var data = new byte[256];
+        random.nextBytes(data);
+        var bits = BitBuffer.fromBytes(data, data.length * Byte.SIZE);
+        var engine = CrcEngine.of(CrcParameters.CRC_32, CrcAlgorithm.INTRINSIC);
+        var state = engine.newState();
+        var position = 0;
+        while (position < bits.length()) {
+            var count = Math.min(bits.length() - position, Byte.SIZE * (1 + random.nextInt(Long.BYTES)));
+            if (random.nextBoolean()) {
+                state.update(data, position / Byte.SIZE, count / Byte.SIZE);
+            } else {
+                state.update(bits, position, count);
+            }
+            position += count;
+        }
+
+        assertEquals(engine.checksum(data), state.getValue());
+    }
+
+    @Test
+    public void resetRestartsFromInitialRegister() {
+        var data = new byte[]{1, 2, 3, 4, 5};
+        var engine = CrcEngine.of(CrcParameters.CRC_16_CCITT_FALSE, CrcAlgorithm.TABLE);
+        var state = engine.newState();
+
+        assertEquals(engine.finish(engine.initialRegister()), state.getValue());
+        state.update(data, 0, data.length);
+        state.updateBits(0b11L, 2);
+        state.reset();
+        state.update(data, 0, data.length);
+
+        assertEquals(engine.checksum(data), state.getValue());
+        assertEquals(40L, state.bitCount());
+    }
+}
@@ -0,0 +1,70 @@
+package com.fudala.domain;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class HammingBatchKernelTests {
+    private static final int[] COUNTS = {0, 1, 2, 3, 5, 7, 8, 9, 15, 17, 31, 33, 64, 101, 1001};
+
+    @Test
+    public void vectorModuleIsResolvedAtRuntime() {
+        assertTrue(HammingBatchDecoder.vectorAvailable());
+        assertTrue(HammingBatchDecoder.of(new HammingCode(4)).vectorized());
+    }
+
+    @Test
+    public void vectorKernelMatchesScalarKernelBitForBit() {
+        var random = new SplittableRandom(61);
+        for (var parityBits = 3; parityBits <= 6; parityBits++) {
+            for (var extended : new boolean[]{false, true}) {
+                var layout = new HammingBatchLayout(parityBits, extended);
+                var scalar = new ScalarHammingKernel(layout);
+                var vector = new VectorHammingKernel(layout);
+                for (var count : COUNTS) {
+                    for (var from = 0; from < 3; from++) {
+                        var codewords = new long[from + count + 2];
+                        for (var i = 0; i < codewords.length; i++) {
+                            codewords[i] = random.nextLong() >>> (Long.SIZE - layout.codewordLength);
+                        }
+                        var scalarData = new long[codewords.length];
+                        var vectorData = new long[codewords.length];
+                        var to = from + count;
+                        var label = (extended ? "SECDED" : "Hamming") + " p=" + parityBits + " [" + from + ", " + to + ")";
+
+                        assertEquals(label, scalar.decode(codewords, scalarData, from, to), vector.decode(codewords, vectorData, from, to));
+                        assertArrayEquals(label, scalarData, vectorData);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void vectorKernelDecodesSingleErrorsLikeTheBlockCode() {
+        var code = new ExtendedHammingCode(4);
+        var decoder = HammingBatchDecoder.of(code);
+        var codewordLength = decoder.codewordLength();
+        var data = BitBuffer.of("10110011101");
+        var encoded = new BitBuffer(codewordLength);
+        code.encode(data, encoded);
+        var clean = encoded.getBits(0, codewordLength);
+        var codewords = new long[codewordLength + 1];
+        codewords[0] = clean;
+        for (var bit = 0; bit < codewordLength; bit++) {
+            codewords[bit + 1] = clean ^ (1L << bit);
+        }
+        var decoded = new long[codewords.length];
+
+        var summary = decoder.decode(codewords, decoded, codewords.length);
+
+        assertEquals(new BlockDecodingSummary(codewords.length, codewordLength, codewordLength), summary);
+        for (var value : decoded) {
+            assertEquals(data.getBits(0, data.length()), value);
+        }
+    }
+}
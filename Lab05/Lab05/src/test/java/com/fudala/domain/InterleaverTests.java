@@ -0,0 +1,163 @@
+package com.fudala.domain;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public final class InterleaverTests {
+    private static final Interleaver[] INTERLEAVERS = {
+            Interleaver.none(),
+            new BlockInterleaver(8, 8),
+            new BlockInterleaver(5, 7),
+            new ConvolutionalInterleaver(4, 3),
+            new ConvolutionalInterleaver(7, 1)
+    };
+
+    @Test
+    public void deinterleaveRestoresInterleavedFrames() {
+        var random = new SplittableRandom(51);
+        for (var interleaver : INTERLEAVERS) {
+            for (var length : new int[]{1, 35, 63, 64, 100, 1001}) {
+                var original = randomBits(random, length);
+                var bits = copy(original);
+
+                interleaver.interleave(bits);
+                if (interleaver != Interleaver.none() && length >= 64) {
+                    assertNotEquals(interleaver.name(), original, bits);
+                }
+                interleaver.deinterleave(bits);
+                assertEquals(interleaver.name() + " " + length, original, bits);
+            }
+        }
+    }
+
+    @Test
+    public void deinterleaveErrorsMatchesDeinterleavingTheCorruptedFrame() {
+        var random = new SplittableRandom(52);
+        for (var interleaver : INTERLEAVERS) {
+            var original = randomBits(random, 500);
+            var transmitted = copy(original);
+            interleaver.interleave(transmitted);
+            var errors = new BitBuffer(transmitted.length());
+            for (var i = 0; i < 40; i++) {
+                errors.set(random.nextInt(errors.length()), true);
+            }
+            var received = copy(transmitted);
+            received.xor(errors);
+            interleaver.deinterleave(received);
+
+            var target = copy(original);
+            interleaver.deinterleaveErrors(errors, target);
+
+            assertEquals(interleaver.name(), received, target);
+            assertEquals(errors.cardinality(), original.distance(target));
+        }
+    }
+
+    @Test
+    public void blockInterleaverSpreadsBurstsAcrossRows() {
+        var rows = 8;
+        var columns = 16;
+        var interleaver = new BlockInterleaver(rows, columns);
+        for (var start = 0; start + rows <= rows * columns; start++) {
+            var spacing = burstSpacing(interleaver, rows * columns, start, rows);
+            assertTrue("burst at " + start + " left errors " + spacing + " apart", spacing >= columns - 1);
+        }
+    }
+
+    @Test
+    public void convolutionalInterleaverSpreadsBurstsAcrossBranches() {
+        var branches = 4;
+        var delay = 3;
+        var length = 400;
+        var interleaver = new ConvolutionalInterleaver(branches, delay);
+        for (var start = 0; start + branches <= length; start++) {
+            var spacing = burstSpacing(interleaver, length, start, branches);
+            assertTrue("burst at " + start + " left errors " + spacing + " apart", spacing >= delay * branches - (branches - 1));
+        }
+    }
+
+    @Test
+    public void permutationMovesEachBitToItsMappedIndex() {
+        var mapping = new int[]{3, 0, 4, 1, 2, 5, 7, 6};
+        var permutation = Permutation.of(mapping);
+        var original = BitBuffer.of("10110010");
+        var bits = copy(original);
+
+        permutation.apply(bits);
+        for (var index = 0; index < mapping.length; index++) {
+            assertEquals(original.get(index), bits.get(mapping[index]));
+        }
+        permutation.applyInverse(bits);
+        assertEquals(original, bits);
+
+        var errors = BitBuffer.of("10000001");
+        var target = new BitBuffer(mapping.length);
+        permutation.flipInverse(errors, target);
+        assertEquals(BitBuffer.of("01000010"), target);
+        assertThrows(IllegalArgumentException.class, () -> permutation.apply(new BitBuffer(7)));
+    }
+
+    @Test
+    public void permutationHandlesLongCyclesAcrossWords() {
+        var length = 1000;
+        var mapping = new int[length];
+        for (var index = 0; index < length; index++) {
+            mapping[index] = (index + 129) % length;
+        }
+        var permutation = Permutation.of(mapping);
+        var original = randomBits(new SplittableRandom(53), length);
+        var bits = copy(original);
+
+        permutation.apply(bits);
+        for (var index = 0; index < length; index++) {
+            assertEquals(original.get(index), bits.get(mapping[index]));
+        }
+        permutation.applyInverse(bits);
+        assertEquals(original, bits);
+    }
+
+    private static int burstSpacing(Interleaver interleaver, int length, int start, int burstLength) {
+        var errors = new BitBuffer(length);
+        for (var index = start; index < start + burstLength; index++) {
+            errors.set(index, true);
+        }
+        var target = new BitBuffer(length);
+        interleaver.deinterleaveErrors(errors, target);
+        assertEquals(burstLength, target.cardinality());
+
+        var spacing = Integer.MAX_VALUE;
+        var previous = -1;
+        var first = -1;
+        for (var index = 0; index < length; index++) {
+            if (target.get(index)) {
+                if (previous >= 0) {
+                    spacing = Math.min(spacing, index - previous);
+                } else {
+                    first = index;
+                }
+                previous = index;
+            }
+        }
+        return Math.min(spacing, length - previous + first);
+    }
+
+    private static BitBuffer randomBits(SplittableRandom random, int length) {
+        var bits = new BitBuffer(length);
+        for (var index = 0; index < length; index++) {
+            bits.set(index, random.nextBoolean());
+        }
+        return bits;
+    }
+
+    private static BitBuffer copy(BitBuffer source) {
+        var copy = new BitBuffer(source.length());
+        copy.copyFrom(source);
+        return copy;
+    }
+}
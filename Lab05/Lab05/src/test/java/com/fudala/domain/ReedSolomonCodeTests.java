@@ -0,0 +1,104 @@
+package com.fudala.domain;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public final class ReedSolomonCodeTests {
+    @Test
+    public void cleanCodewordDecodesWithoutError() {
+        var code = new ReedSolomonCode();
+        var data = randomData(code, new SplittableRandom(1));
+        var codeword = new BitBuffer(0);
+        var decoded = new BitBuffer(0);
+
+        code.encode(data, codeword);
+        var status = code.decode(codeword, decoded);
+
+        assertEquals(DecodingStatus.NO_ERROR, status);
+        assertEquals(data, decoded);
+        assertEquals(code.codewordLength(), codeword.length());
+    }
+
+    @Test
+    public void correctsUpToCorrectableSymbolErrors() {
+        var random = new SplittableRandom(2);
+        for (var code : new ReedSolomonCode[]{new ReedSolomonCode(), new ReedSolomonCode(15, 11), new ReedSolomonCode(40, 33)}) {
+            for (var errors = 1; errors <= code.correctableSymbols(); errors++) {
+                var data = randomData(code, random);
+                var codeword = new BitBuffer(0);
+                var decoded = new BitBuffer(0);
+                code.encode(data, codeword);
+                corruptSymbols(codeword, code.codewordSymbols(), errors, random);
+
+                var status = code.decode(codeword, decoded);
+
+                assertEquals(code.name() + " with " + errors + " errors", DecodingStatus.ERROR_CORRECTED, status);
+                assertEquals(data, decoded);
+            }
+        }
+    }
+
+    @Test
+    public void detectsErrorsBeyondCorrectionCapability() {
+        var code = new ReedSolomonCode(255, 239);
+        var random = new SplittableRandom(3);
+        var detected = 0;
+        for (var trial = 0; trial < 100; trial++) {
+            var codeword = new BitBuffer(0);
+            code.encode(randomData(code, random), codeword);
+            corruptSymbols(codeword, code.codewordSymbols(), code.correctableSymbols() + 1, random);
+            if (code.decode(codeword, new BitBuffer(0)) == DecodingStatus.ERROR_DETECTED) {
+                detected++;
+            }
+        }
+
+        assertEquals(100, detected);
+    }
+
+    @Test
+    public void encodesPayloadAcrossMultipleBlocks() {
+        var code = new ReedSolomonCode(15, 11);
+        var payload = BitBuffer.of("1".repeat(100));
+        var encoded = new BitBuffer(0);
+        var decoded = new BitBuffer(0);
+
+        assertEquals(2, code.encodeBlocks(payload, encoded));
+        encoded.xorBits(3 * Byte.SIZE, Byte.SIZE, 0xA5);
+        var summary = code.decodeBlocks(encoded, decoded);
+        decoded.setLength(payload.length());
+
+        assertEquals(DecodingStatus.ERROR_CORRECTED, summary.status());
+        assertEquals(payload, decoded);
+    }
+
+    @Test
+    public void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ReedSolomonCode(256, 200));
+        assertThrows(IllegalArgumentException.class, () -> new ReedSolomonCode(15, 15));
+        assertThrows(IllegalArgumentException.class, () -> new ReedSolomonCode(15, 0));
+    }
+
+    private static BitBuffer randomData(ReedSolomonCode code, SplittableRandom random) {
+        var data = new BitBuffer(code.dataLength());
+        for (var i = 0; i < data.length(); i++) {
+            data.set(i, random.nextBoolean());
+        }
+        return data;
+    }
+
+    private static void corruptSymbols(BitBuffer codeword, int symbols, int errors, SplittableRandom random) {
+        var corrupted = new boolean[symbols];
+        for (var remaining = errors; remaining > 0; ) {
+            var symbol = random.nextInt(symbols);
+            if (!corrupted[symbol]) {
+                corrupted[symbol] = true;
+                codeword.xorBits(symbol * Byte.SIZE, Byte.SIZE, 1 + random.nextInt(GaloisField.ORDER));
+                remaining--;
+            }
+        }
+    }
+}
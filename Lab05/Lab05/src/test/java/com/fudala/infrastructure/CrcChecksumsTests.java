@@ -0,0 +1,83 @@
+package com.fudala.infrastructure;
+
+import com.fudala.domain.CrcAlgorithm;
+import com.fudala.domain.CrcEngine;
+import com.fudala.domain.CrcParameters;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+public final class CrcChecksumsTests {
+    private static final int PAYLOAD_LENGTH = 200_000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void streamingHelpersMatchInMemoryChecksum() throws IOException {
+        var data = new byte[PAYLOAD_LENGTH];
+        new SplittableRandom(31).nextBytes(data);
+        var file = folder.newFile("payload.bin").toPath();
+        Files.write(file, data);
+
+        for (var engine : new CrcEngine[]{
+                CrcEngine.of(CrcParameters.CRC_32C, CrcAlgorithm.INTRINSIC),
+                CrcEngine.of(CrcParameters.CRC_64_ECMA_182, CrcAlgorithm.SLICE_BY_8)
+        }) {
+            var expected = engine.checksum(data);
+            assertEquals(expected, CrcChecksums.checksum(engine, new ByteArrayInputStream(data)));
+            assertEquals(expected, CrcChecksums.checksum(engine, trickle(new ByteArrayInputStream(data))));
+            assertEquals(expected, CrcChecksums.checksum(engine, Channels.newChannel(trickle(new ByteArrayInputStream(data)))));
+            assertEquals(expected, CrcChecksums.checksum(engine, file));
+        }
+    }
+
+    @Test
+    public void helpersContinueAnExistingState() throws IOException {
+        var engine = CrcEngine.of(CrcParameters.CRC_32, CrcAlgorithm.SLICE_BY_8);
+        var data = new byte[PAYLOAD_LENGTH];
+        new SplittableRandom(32).nextBytes(data);
+        var split = 77_777;
+        var tail = folder.newFile("tail.bin").toPath();
+        Files.write(tail, Arrays.copyOfRange(data, split, data.length));
+
+        var state = engine.newState();
+        CrcChecksums.update(state, new ByteArrayInputStream(data, 0, split));
+        CrcChecksums.update(state, tail);
+
+        assertEquals(engine.checksum(data), state.getValue());
+        assertEquals((long) PAYLOAD_LENGTH * Byte.SIZE, state.bitCount());
+    }
+
+    @Test
+    public void emptyInputsYieldChecksumOfNothing() throws IOException {
+        var engine = CrcEngine.of(CrcParameters.CRC_16_ARC, CrcAlgorithm.TABLE);
+        var empty = folder.newFile("empty.bin").toPath();
+        var expected = engine.checksum(new byte[0]);
+
+        assertEquals(expected, CrcChecksums.checksum(engine, InputStream.nullInputStream()));
+        assertEquals(expected, CrcChecksums.checksum(engine, Channels.newChannel(InputStream.nullInputStream())));
+        assertEquals(expected, CrcChecksums.checksum(engine, empty));
+    }
+
+    private static InputStream trickle(InputStream input) {
+        var random = new SplittableRandom(33);
+        return new FilterInputStream(input) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1 + random.nextInt(5000)));
+            }
+        };
+    }
+}